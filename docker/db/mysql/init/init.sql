@@ -1,14 +1,27 @@
-CREATE TABLE pieces
+CREATE TABLE games
 (
-    piece_id int         not null AUTO_INCREMENT,
-    position varchar(4)  not null,
-    name    varchar(10) not null,
-    primary key (piece_id)
+    game_id    int       not null AUTO_INCREMENT,
+    created_at timestamp not null default CURRENT_TIMESTAMP,
+    primary key (game_id)
 );
 
-CREATE TABLE turns
+CREATE TABLE boards
 (
-    turn_id  int        not null AUTO_INCREMENT,
-    turn     varchar(5) not null,
-    primary key (turn_id)
-);
\ No newline at end of file
+    game_id int        not null,
+    ply     int        not null default 0,
+    state   binary(33) not null,
+    primary key (game_id)
+);
+
+CREATE TABLE moves
+(
+    move_id    int         not null AUTO_INCREMENT,
+    game_id    int         not null,
+    ply        int         not null,
+    source     varchar(4)  not null,
+    target     varchar(4)  not null,
+    captured   varchar(10) not null,
+    created_at timestamp   not null default CURRENT_TIMESTAMP,
+    primary key (move_id),
+    unique key (game_id, ply)
+);
@@ -0,0 +1,63 @@
+package chess.benchmark;
+
+import chess.model.ChessGame;
+import chess.model.Turn;
+import chess.model.board.Board;
+import chess.model.board.BoardFactory;
+import chess.model.position.Position;
+
+public enum BenchmarkPosition {
+    OPENING("", "e2e4"),
+    ITALIAN("e2e4 e7e5 g1f3 b8c6 f1c4 f8c5 c2c3 g8f6 d2d3 d7d6 b1d2 a7a6", "f3g5"),
+    QUEENS_GAMBIT("d2d4 d7d5 c2c4 e7e6 b1c3 g8f6 c1g5 f8e7 e2e3 b8d7 g1f3 c7c6", "f1d3"),
+    SICILIAN("e2e4 c7c5 g1f3 d7d6 d2d4 c5d4 f3d4 g8f6 b1c3 a7a6 c1e3 e7e5", "d4f5");
+
+    private static final String DELIMITER = " ";
+
+    private final String moves;
+    private final String nextMove;
+
+    BenchmarkPosition(String moves, String nextMove) {
+        this.moves = moves;
+        this.nextMove = nextMove;
+    }
+
+    public Board createBoard() {
+        ChessGame chessGame = new ChessGame(BoardFactory.create());
+        Turn turn = Turn.init();
+        for (String move : moves.split(DELIMITER)) {
+            if (move.isEmpty()) {
+                continue;
+            }
+            chessGame.move(source(move), target(move), turn);
+            turn = turn.change();
+        }
+        return chessGame.getBoard();
+    }
+
+    public Turn getTurn() {
+        Turn turn = Turn.init();
+        for (String move : moves.split(DELIMITER)) {
+            if (!move.isEmpty()) {
+                turn = turn.change();
+            }
+        }
+        return turn;
+    }
+
+    public Position getNextSource() {
+        return source(nextMove);
+    }
+
+    public Position getNextTarget() {
+        return target(nextMove);
+    }
+
+    private static Position source(String move) {
+        return Position.from(move.substring(0, 2));
+    }
+
+    private static Position target(String move) {
+        return Position.from(move.substring(2, 4));
+    }
+}
@@ -0,0 +1,49 @@
+package chess.benchmark;
+
+import chess.model.GameResult;
+import chess.model.Team;
+import chess.model.board.Board;
+import chess.model.dto.WebBoardDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BoardBenchmark {
+
+    @Benchmark
+    public Board copy(BoardState state) {
+        return state.board.copy();
+    }
+
+    @Benchmark
+    public Board move(BoardState state) {
+        Board board = state.board.copy();
+        board.move(board.get(state.source), state.source, state.target);
+        return board;
+    }
+
+    @Benchmark
+    public long countKing(BoardState state) {
+        return state.board.countKing();
+    }
+
+    @Benchmark
+    public double getTotalScore(BoardState state) {
+        return state.board.getTotalScore(Team.WHITE);
+    }
+
+    @Benchmark
+    public GameResult gameResult(BoardState state) {
+        return GameResult.from(state.board);
+    }
+
+    @Benchmark
+    public WebBoardDto webBoardDto(BoardState state) {
+        return WebBoardDto.from(state.board);
+    }
+}
@@ -0,0 +1,29 @@
+package chess.benchmark;
+
+import chess.model.Turn;
+import chess.model.board.Board;
+import chess.model.position.Position;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+public class BoardState {
+
+    @Param({"OPENING", "ITALIAN", "QUEENS_GAMBIT", "SICILIAN"})
+    public BenchmarkPosition position;
+
+    public Board board;
+    public Turn turn;
+    public Position source;
+    public Position target;
+
+    @Setup
+    public void setUp() {
+        board = position.createBoard();
+        turn = position.getTurn();
+        source = position.getNextSource();
+        target = position.getNextTarget();
+    }
+}
@@ -0,0 +1,22 @@
+package chess.benchmark;
+
+import chess.model.ChessGame;
+import chess.model.board.Board;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChessGameBenchmark {
+
+    @Benchmark
+    public Board move(BoardState state) {
+        Board board = state.board.copy();
+        new ChessGame(board).move(state.source, state.target, state.turn);
+        return board;
+    }
+}
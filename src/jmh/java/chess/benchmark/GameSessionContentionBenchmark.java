@@ -0,0 +1,74 @@
+package chess.benchmark;
+
+import chess.model.ChessGame;
+import chess.model.MoveResult;
+import chess.model.Turn;
+import chess.model.position.Position;
+import chess.service.GameSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Threads(16)
+public class GameSessionContentionBenchmark {
+
+    @Param({"1", "16", "1024"})
+    public int games;
+
+    @Param({"GAME", "GLOBAL"})
+    public String lock;
+
+    private final Object globalLock = new Object();
+    private GameSession[] sessions;
+    private Position source;
+    private Position target;
+    private Turn turn;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessions = new GameSession[games];
+        turn = BenchmarkPosition.ITALIAN.getTurn();
+        for (int i = 0; i < games; i++) {
+            sessions[i] = new GameSession(i, new ChessGame(BenchmarkPosition.ITALIAN.createBoard()), turn);
+        }
+        source = BenchmarkPosition.ITALIAN.getNextSource();
+        target = BenchmarkPosition.ITALIAN.getNextTarget();
+    }
+
+    @Benchmark
+    public MoveResult move() {
+        GameSession session = sessions[ThreadLocalRandom.current().nextInt(games)];
+        if ("GLOBAL".equals(lock)) {
+            synchronized (globalLock) {
+                return moveAndUndo(session);
+            }
+        }
+        return session.execute(() -> moveAndUndo(session));
+    }
+
+    private MoveResult moveAndUndo(GameSession session) {
+        ChessGame chessGame = session.getChessGame();
+        MoveResult result = chessGame.tryMove(source, target, turn);
+        if (result.isOk()) {
+            chessGame.undo();
+        }
+        return result;
+    }
+}
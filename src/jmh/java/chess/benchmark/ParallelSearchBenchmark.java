@@ -0,0 +1,81 @@
+package chess.benchmark;
+
+import chess.engine.ParallelSearcher;
+import chess.engine.SearchLimit;
+import chess.engine.SearchResult;
+import chess.model.Turn;
+import chess.model.board.Board;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ParallelSearchBenchmark {
+    private static final long SEARCH_MILLIS = 2000;
+
+    @Param({"1", "2", "4", "8", "16"})
+    public int threads;
+
+    @Param({"OPENING", "ITALIAN", "SICILIAN"})
+    public BenchmarkPosition position;
+
+    private ParallelSearcher searcher;
+    private Board board;
+    private Turn turn;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        board = position.createBoard();
+        turn = position.getTurn();
+    }
+
+    @Setup(Level.Iteration)
+    public void createSearcher() {
+        searcher = new ParallelSearcher(threads);
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeSearcher() {
+        searcher.close();
+    }
+
+    @Benchmark
+    public SearchResult search(SearchCounters counters) {
+        SearchResult result = searcher.search(board, turn, SearchLimit.ofTime(SEARCH_MILLIS));
+        counters.depth += result.getDepth();
+        counters.nodes += result.getNodes();
+        counters.nodesPerSecond += result.getNodesPerSecond();
+        return result;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SearchCounters {
+        public long depth;
+        public long nodes;
+        public long nodesPerSecond;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            depth = 0;
+            nodes = 0;
+            nodesPerSecond = 0;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package chess.benchmark;
+
+import chess.model.piece.Piece;
+import chess.model.piece.PieceFactory;
+import chess.model.position.Position;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PieceBenchmark {
+
+    @Param({"white-p", "black-q", "none-."})
+    public String pieceName;
+
+    @Param({"a1", "e4", "h8"})
+    public String position;
+
+    @Benchmark
+    public Piece pieceFactoryCreate() {
+        return PieceFactory.create(pieceName);
+    }
+
+    @Benchmark
+    public Position positionFrom() {
+        return Position.from(position);
+    }
+}
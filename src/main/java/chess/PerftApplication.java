@@ -0,0 +1,56 @@
+package chess;
+
+import chess.engine.Perft;
+import chess.engine.PerftResult;
+import chess.model.Turn;
+import chess.model.board.Board;
+import chess.model.board.BoardFactory;
+
+import java.util.concurrent.ForkJoinPool;
+
+public class PerftApplication {
+    private static final String PARALLEL = "parallel";
+
+    public static void main(String[] args) {
+        int depth = Integer.parseInt(args[0]);
+        boolean parallel = false;
+        String fen = null;
+        for (int index = 1; index < args.length; index++) {
+            if (PARALLEL.equals(args[index])) {
+                parallel = true;
+            } else {
+                fen = args[index];
+            }
+        }
+        PerftResult result = run(depth, parallel, fen);
+
+        result.getDivide().forEach((movement, nodes) -> System.out.println(movement + ": " + nodes));
+        System.out.println();
+        System.out.println("nodes: " + result.getNodes());
+        System.out.println("time(ms): " + result.getElapsedNanos() / 1_000_000);
+        System.out.println("nps: " + result.getNodesPerSecond());
+    }
+
+    private static PerftResult run(int depth, boolean parallel, String fen) {
+        Board board = createBoard(fen);
+        Turn turn = createTurn(fen);
+        if (parallel) {
+            return Perft.divide(board, turn, depth, ForkJoinPool.commonPool());
+        }
+        return Perft.divide(board, turn, depth);
+    }
+
+    private static Board createBoard(String fen) {
+        if (fen == null) {
+            return BoardFactory.create();
+        }
+        return BoardFactory.create(fen);
+    }
+
+    private static Turn createTurn(String fen) {
+        if (fen == null) {
+            return Turn.init();
+        }
+        return BoardFactory.createTurn(fen);
+    }
+}
@@ -1,6 +1,7 @@
 package chess.controller;
 
 import chess.model.ChessGame;
+import chess.model.MoveResult;
 import chess.model.Turn;
 import chess.model.board.BoardFactory;
 import chess.model.command.Command;
@@ -21,11 +22,23 @@ public class ChessController {
         while (!command.isEnd() || chessGame.isKingDead()) {
             OutputView.printBoard(chessGame.getBoard());
             command = command.turnState(InputView.inputCommand());
-            turn = chessGame.progress(command, turn);
+            turn = progress(chessGame, command, turn);
         }
         end(chessGame, command);
     }
 
+    private Turn progress(ChessGame chessGame, Command command, Turn turn) {
+        if (!command.isMove()) {
+            return turn;
+        }
+        MoveResult result = chessGame.tryMove(command.getSourcePosition(), command.getTargetPosition(), turn);
+        if (!result.isOk()) {
+            OutputView.printMoveFailure(result);
+            return turn;
+        }
+        return turn.change();
+    }
+
     private void end(ChessGame chessGame, Command command) {
         OutputView.printFinishMessage();
         command = command.turnFinalState(InputView.inputCommand());
@@ -1,12 +1,15 @@
 package chess.controller;
 
 import chess.model.GameResult;
+import chess.model.MoveResult;
 import chess.model.dto.MoveDto;
 import chess.model.dto.WebBoardDto;
 import chess.service.ChessService;
+import chess.utils.DBConnector;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import spark.ModelAndView;
+import spark.Request;
 import spark.template.handlebars.HandlebarsTemplateEngine;
 
 import java.util.HashMap;
@@ -30,37 +33,64 @@ public class WebController {
             return render(model, "index.html");
         });
 
-        get("/start", (req, res) -> {
-            WebBoardDto board = chessService.start();
+        post("/games", (req, res) -> {
+            String fen = req.queryParams("fen");
+            int gameId = createGame(fen);
+            JsonObject jsonObject = new JsonObject();
+            jsonObject.addProperty("gameId", gameId);
+            return gson.toJson(jsonObject);
+        });
+
+        get("/games/:id/start", (req, res) -> {
+            WebBoardDto board = chessService.start(gameIdOf(req));
             return gson.toJson(board.getWebBoard());
         });
 
-        post("/move", (req, res) -> {
+        get("/games/:id/fen", (req, res) -> gson.toJson(chessService.getFen(gameIdOf(req))));
+
+        post("/games/:id/move", (req, res) -> {
+            int gameId = gameIdOf(req);
             MoveDto moveCommand = gson.fromJson(req.body(), MoveDto.class);
-            WebBoardDto board = chessService.move(moveCommand);
-            return gson.toJson(board.getWebBoard());
+            MoveResult result = chessService.move(gameId, moveCommand);
+            if (!result.isOk()) {
+                res.status(400);
+                return gson.toJson(errorOf(result));
+            }
+            return gson.toJson(chessService.getBoard(gameId).getWebBoard());
+        });
+
+        post("/games/:id/computer/move", (req, res) -> {
+            int gameId = gameIdOf(req);
+            MoveResult result = chessService.computerMove(gameId);
+            if (!result.isOk()) {
+                res.status(400);
+                return gson.toJson(errorOf(result));
+            }
+            return gson.toJson(chessService.getBoard(gameId).getWebBoard());
         });
 
-        get("/turn", (req, res) -> {
-            String turn = chessService.getTurn();
+        get("/games/:id/turn", (req, res) -> {
+            String turn = chessService.getTurn(gameIdOf(req));
 
             return gson.toJson(turn);
         });
 
-        get("/king/dead", (req, res) -> gson.toJson(chessService.isKingDead()));
+        get("/games/:id/king/dead", (req, res) -> gson.toJson(chessService.isKingDead(gameIdOf(req))));
 
-        get("/status", (req, res) -> {
-            GameResult result = chessService.getResult();
+        get("/games/:id/status", (req, res) -> {
+            GameResult result = chessService.getResult(gameIdOf(req));
 
             return gson.toJson(result);
         });
 
-        post("/exit", (req, res) -> {
-            chessService.exitGame();
+        post("/games/:id/exit", (req, res) -> {
+            chessService.exitGame(gameIdOf(req));
 
             return gson.toJson(gson.serializeNulls());
         });
 
+        get("/metrics/pool", (req, res) -> gson.toJson(DBConnector.getDataSource().getMetrics()));
+
         exception(Exception.class, (exception, request, response) -> {
             response.status(400);
             JsonObject jsonObject = new JsonObject();
@@ -69,6 +99,27 @@ public class WebController {
         });
     }
 
+    private int createGame(String fen) {
+        if (fen == null || fen.isEmpty()) {
+            return chessService.createGame();
+        }
+        return chessService.createGame(fen);
+    }
+
+    private int gameIdOf(Request request) {
+        try {
+            return Integer.parseInt(request.params(":id"));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("게임 번호가 올바르지 않습니다.");
+        }
+    }
+
+    private JsonObject errorOf(MoveResult result) {
+        JsonObject jsonObject = new JsonObject();
+        jsonObject.addProperty("code", result.name());
+        jsonObject.addProperty("message", "[ERROR] " + result.getMessage());
+        return jsonObject;
+    }
 
     private String render(Map<String, Object> model, String templatePath) {
         return new HandlebarsTemplateEngine().render(new ModelAndView(model, templatePath));
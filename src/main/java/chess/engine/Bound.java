@@ -0,0 +1,33 @@
+package chess.engine;
+
+public enum Bound {
+    EXACT,
+    LOWER,
+    UPPER;
+
+    private static final Bound[] VALUES = values();
+
+    public static Bound of(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    public static Bound of(int score, int alpha, int beta) {
+        if (score >= beta) {
+            return LOWER;
+        }
+        if (score > alpha) {
+            return EXACT;
+        }
+        return UPPER;
+    }
+
+    public boolean isCutoff(int score, int alpha, int beta) {
+        if (this == EXACT) {
+            return true;
+        }
+        if (this == LOWER) {
+            return score >= beta;
+        }
+        return score <= alpha;
+    }
+}
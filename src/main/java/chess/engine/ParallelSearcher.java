@@ -0,0 +1,105 @@
+package chess.engine;
+
+import chess.model.Turn;
+import chess.model.board.Board;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class ParallelSearcher implements AutoCloseable {
+    private static final int DEFAULT_TABLE_MEGABYTES = 64;
+
+    private final int threads;
+    private final TranspositionTable table;
+    private final ExecutorService helpers;
+    private final ReentrantLock searchLock = new ReentrantLock();
+
+    public ParallelSearcher(int threads) {
+        this(threads, new TranspositionTable(DEFAULT_TABLE_MEGABYTES));
+    }
+
+    public ParallelSearcher(int threads, TranspositionTable table) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("탐색 스레드는 1개 이상이어야 합니다.");
+        }
+        this.threads = threads;
+        this.table = table;
+        this.helpers = Executors.newFixedThreadPool(Math.max(1, threads - 1), runnable -> {
+            Thread thread = new Thread(runnable, "search-helper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public SearchResult search(Board board, Turn turn, SearchLimit limit) {
+        searchLock.lock();
+        try {
+            return searchAlone(board, turn, limit);
+        } finally {
+            searchLock.unlock();
+        }
+    }
+
+    public Optional<SearchResult> trySearch(Board board, Turn turn, SearchLimit limit, long waitMillis) {
+        try {
+            if (!searchLock.tryLock(waitMillis, TimeUnit.MILLISECONDS)) {
+                return Optional.empty();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(searchAlone(board, turn, limit));
+        } finally {
+            searchLock.unlock();
+        }
+    }
+
+    private SearchResult searchAlone(Board board, Turn turn, SearchLimit limit) {
+        long start = System.nanoTime();
+        table.newSearch();
+        AtomicBoolean stopSignal = new AtomicBoolean();
+        List<Future<SearchResult>> helperResults = new ArrayList<>(threads - 1);
+        SearchLimit helperLimit = new SearchLimit(limit.getDepth() + 1, limit.getTimeMillis(), Long.MAX_VALUE);
+        for (int helper = 1; helper < threads; helper++) {
+            Searcher searcher = new Searcher(table, stopSignal, 1 + helper % 2);
+            Board helperBoard = board.copy();
+            helperResults.add(helpers.submit(() -> searcher.search(helperBoard, turn, helperLimit)));
+        }
+
+        SearchResult main = new Searcher(table, stopSignal, 1).search(board.copy(), turn, limit);
+        stopSignal.set(true);
+
+        long nodes = main.getNodes();
+        for (Future<SearchResult> helperResult : helperResults) {
+            nodes += join(helperResult).getNodes();
+        }
+        return new SearchResult(main.getPrincipalVariation(), main.getScore(), main.getDepth(), nodes,
+                System.nanoTime() - start);
+    }
+
+    private SearchResult join(Future<SearchResult> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalArgumentException("탐색이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            throw new IllegalArgumentException(e.getCause().getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        helpers.shutdownNow();
+    }
+}
@@ -0,0 +1,112 @@
+package chess.engine;
+
+import chess.model.ChessGame;
+import chess.model.MoveList;
+import chess.model.Movement;
+import chess.model.Turn;
+import chess.model.board.Board;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Collectors;
+
+public class Perft {
+
+    public static long count(Board board, Turn turn, int depth) {
+        if (depth == 0) {
+            return 1;
+        }
+        MoveList[] moveLists = new MoveList[depth];
+        for (int ply = 0; ply < depth; ply++) {
+            moveLists[ply] = new MoveList();
+        }
+        return count(new ChessGame(board), board, turn, depth, moveLists);
+    }
+
+    private static long count(ChessGame chessGame, Board board, Turn turn, int depth, MoveList[] moveLists) {
+        if (depth == 0) {
+            return 1;
+        }
+        if (chessGame.isKingDead()) {
+            return 0;
+        }
+        MoveList moves = moveLists[depth - 1];
+        chessGame.generateMoves(turn, moves);
+        long nodes = 0;
+        for (int index = 0; index < moves.size(); index++) {
+            int undo = board.makeMove(moves.get(index));
+            nodes += count(chessGame, board, turn.change(), depth - 1, moveLists);
+            board.unmakeMove(undo);
+        }
+        return nodes;
+    }
+
+    public static PerftResult divide(Board board, Turn turn, int depth) {
+        validateDepth(depth);
+        long start = System.nanoTime();
+        Map<Movement, Long> divide = new LinkedHashMap<>();
+        for (Movement movement : rootMoves(board, turn)) {
+            int undo = board.makeMove(movement.getSource(), movement.getTarget());
+            divide.put(movement, count(board, turn.change(), depth - 1));
+            board.unmakeMove(undo);
+        }
+        return new PerftResult(divide, System.nanoTime() - start);
+    }
+
+    public static PerftResult divide(Board board, Turn turn, int depth, ForkJoinPool pool) {
+        validateDepth(depth);
+        long start = System.nanoTime();
+        Map<Movement, PerftTask> tasks = rootMoves(board, turn)
+                .stream()
+                .collect(Collectors.toMap(movement -> movement,
+                        movement -> new PerftTask(play(board, movement), turn.change(), depth - 1),
+                        (first, second) -> first, LinkedHashMap::new));
+        tasks.values().forEach(pool::execute);
+
+        Map<Movement, Long> divide = new LinkedHashMap<>();
+        tasks.forEach((movement, task) -> divide.put(movement, task.join()));
+        return new PerftResult(divide, System.nanoTime() - start);
+    }
+
+    private static void validateDepth(int depth) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("perft 깊이는 1 이상이어야 합니다.");
+        }
+    }
+
+    private static List<Movement> rootMoves(Board board, Turn turn) {
+        ChessGame chessGame = new ChessGame(board);
+        if (chessGame.isKingDead()) {
+            return List.of();
+        }
+        return chessGame.legalMoves(turn);
+    }
+
+    private static Board play(Board board, Movement movement) {
+        Board next = board.copy();
+        next.makeMove(movement.getSource(), movement.getTarget());
+        return next;
+    }
+
+    private static class PerftTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final Board board;
+        private final Turn turn;
+        private final int depth;
+
+        private PerftTask(Board board, Turn turn, int depth) {
+            this.board = board;
+            this.turn = turn;
+            this.depth = depth;
+        }
+
+        @Override
+        protected Long compute() {
+            return count(board, turn, depth);
+        }
+    }
+}
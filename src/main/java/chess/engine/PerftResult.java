@@ -0,0 +1,41 @@
+package chess.engine;
+
+import chess.model.Movement;
+
+import java.util.Map;
+
+public class PerftResult {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final Map<Movement, Long> divide;
+    private final long nodes;
+    private final long elapsedNanos;
+
+    public PerftResult(Map<Movement, Long> divide, long elapsedNanos) {
+        this.divide = divide;
+        this.nodes = divide.values()
+                .stream()
+                .mapToLong(Long::longValue)
+                .sum();
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public Map<Movement, Long> getDivide() {
+        return divide;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getNodesPerSecond() {
+        if (elapsedNanos == 0) {
+            return 0;
+        }
+        return nodes * NANOS_PER_SECOND / elapsedNanos;
+    }
+}
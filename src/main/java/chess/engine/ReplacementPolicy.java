@@ -0,0 +1,6 @@
+package chess.engine;
+
+public enum ReplacementPolicy {
+    DEPTH_PREFERRED,
+    ALWAYS_REPLACE
+}
@@ -0,0 +1,42 @@
+package chess.engine;
+
+public class SearchLimit {
+    private static final int MAX_DEPTH = 32;
+
+    private final int depth;
+    private final long timeMillis;
+    private final long nodes;
+
+    public SearchLimit(int depth, long timeMillis, long nodes) {
+        validate(depth, timeMillis, nodes);
+        this.depth = Math.min(depth, MAX_DEPTH);
+        this.timeMillis = timeMillis;
+        this.nodes = nodes;
+    }
+
+    public static SearchLimit ofTime(long timeMillis) {
+        return new SearchLimit(MAX_DEPTH, timeMillis, Long.MAX_VALUE);
+    }
+
+    public static SearchLimit ofDepth(int depth) {
+        return new SearchLimit(depth, Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    private void validate(int depth, long timeMillis, long nodes) {
+        if (depth < 1 || timeMillis < 1 || nodes < 1) {
+            throw new IllegalArgumentException("탐색 제한은 1 이상이어야 합니다.");
+        }
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+}
@@ -0,0 +1,61 @@
+package chess.engine;
+
+import chess.model.Movement;
+
+import java.util.List;
+
+public class SearchResult {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final List<Movement> principalVariation;
+    private final int score;
+    private final int depth;
+    private final long nodes;
+    private final long elapsedNanos;
+
+    public SearchResult(List<Movement> principalVariation, int score, int depth, long nodes, long elapsedNanos) {
+        this.principalVariation = principalVariation;
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public boolean hasBestMove() {
+        return !principalVariation.isEmpty();
+    }
+
+    public Movement getBestMove() {
+        if (!hasBestMove()) {
+            throw new IllegalArgumentException("둘 수 있는 수가 없습니다.");
+        }
+        return principalVariation.get(0);
+    }
+
+    public List<Movement> getPrincipalVariation() {
+        return principalVariation;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getNodesPerSecond() {
+        if (elapsedNanos == 0) {
+            return 0;
+        }
+        return nodes * NANOS_PER_SECOND / elapsedNanos;
+    }
+}
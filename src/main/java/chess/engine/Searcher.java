@@ -0,0 +1,273 @@
+package chess.engine;
+
+import chess.model.ChessGame;
+import chess.model.MoveList;
+import chess.model.Movement;
+import chess.model.PackedMove;
+import chess.model.Team;
+import chess.model.Turn;
+import chess.model.board.Board;
+import chess.model.piece.Piece;
+import chess.model.position.Position;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class Searcher {
+    public static final int KING_CAPTURED = 100_000;
+
+    private static final int MAX_PLY = 64;
+    private static final int INFINITY = KING_CAPTURED + MAX_PLY;
+    private static final int SCORE_SCALE = 100;
+    private static final int TIME_CHECK_INTERVAL = 1024;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final int DEFAULT_TABLE_MEGABYTES = 4;
+
+    private final TranspositionTable table;
+    private final AtomicBoolean stopSignal;
+    private final int startDepth;
+    private final int[][] pvTable = new int[MAX_PLY + 1][MAX_PLY + 1];
+    private final int[] pvLength = new int[MAX_PLY + 1];
+    private final int[] previousPv = new int[MAX_PLY + 1];
+    private final MoveList[] moveLists = new MoveList[MAX_PLY + 1];
+    private int previousPvLength;
+
+    private Board board;
+    private ChessGame chessGame;
+    private SearchLimit limit;
+    private long start;
+    private long timeBudgetNanos;
+    private long nodes;
+    private boolean stopped;
+
+    public Searcher() {
+        this(new TranspositionTable(DEFAULT_TABLE_MEGABYTES), new AtomicBoolean(), 1);
+    }
+
+    public Searcher(TranspositionTable table, AtomicBoolean stopSignal, int startDepth) {
+        this.table = table;
+        this.stopSignal = stopSignal;
+        this.startDepth = startDepth;
+        for (int ply = 0; ply <= MAX_PLY; ply++) {
+            moveLists[ply] = new MoveList();
+        }
+    }
+
+    public SearchResult search(Board board, Turn turn, SearchLimit limit) {
+        this.board = board;
+        this.chessGame = new ChessGame(board);
+        this.limit = limit;
+        this.start = System.nanoTime();
+        this.timeBudgetNanos = toNanos(limit.getTimeMillis());
+        this.nodes = 0;
+        this.stopped = false;
+        this.previousPvLength = 0;
+
+        List<Movement> principalVariation = List.of();
+        int score = 0;
+        int completedDepth = 0;
+        for (int depth = Math.min(startDepth, limit.getDepth()); depth <= limit.getDepth(); depth++) {
+            int iterationScore = search(depth, -INFINITY, INFINITY, 0, turn);
+            if (stopped && completedDepth > 0) {
+                break;
+            }
+            principalVariation = collectPrincipalVariation();
+            System.arraycopy(pvTable[0], 0, previousPv, 0, pvLength[0]);
+            previousPvLength = pvLength[0];
+            score = iterationScore;
+            completedDepth = depth;
+            if (stopped || Math.abs(score) >= KING_CAPTURED - MAX_PLY) {
+                break;
+            }
+        }
+        return new SearchResult(principalVariation, score, completedDepth, nodes, System.nanoTime() - start);
+    }
+
+    private long toNanos(long millis) {
+        if (millis >= Long.MAX_VALUE / NANOS_PER_MILLI) {
+            return Long.MAX_VALUE;
+        }
+        return millis * NANOS_PER_MILLI;
+    }
+
+    private int search(int depth, int alpha, int beta, int ply, Turn turn) {
+        pvLength[ply] = ply;
+        if (isOutOfBudget()) {
+            return 0;
+        }
+        nodes++;
+        if (!board.hasKing(turn.getTeam())) {
+            return -KING_CAPTURED + ply;
+        }
+        if (depth == 0 || ply == MAX_PLY) {
+            return quiescence(alpha, beta, ply, turn);
+        }
+        long key = board.getZobristKey(turn);
+        long entry = table.probe(key);
+        int principalMove = principalMove(ply);
+        if (TranspositionTable.isHit(entry)) {
+            int score = fromTable(TranspositionTable.scoreOf(entry), ply);
+            if (ply > 0 && TranspositionTable.depthOf(entry) >= depth
+                    && TranspositionTable.boundOf(entry).isCutoff(score, alpha, beta)) {
+                return score;
+            }
+            if (principalMove == PackedMove.NONE) {
+                principalMove = TranspositionTable.moveOf(entry);
+            }
+        }
+
+        int originalAlpha = alpha;
+        int bestMove = PackedMove.NONE;
+        MoveList moves = moveLists[ply];
+        chessGame.generateMoves(turn, moves);
+        scoreMoves(moves, principalMove);
+        for (int index = 0; index < moves.size(); index++) {
+            int move = moves.pickBest(index);
+            int undo = board.makeMove(move);
+            int score = -search(depth - 1, -beta, -alpha, ply + 1, turn.change());
+            board.unmakeMove(undo);
+            if (stopped) {
+                return 0;
+            }
+            if (score > alpha) {
+                alpha = score;
+                bestMove = move;
+                updatePrincipalVariation(ply, move);
+            }
+            if (alpha >= beta) {
+                break;
+            }
+        }
+        table.store(key, depth, toTable(alpha, ply), Bound.of(alpha, originalAlpha, beta), bestMove);
+        return alpha;
+    }
+
+    private int toTable(int score, int ply) {
+        if (score >= KING_CAPTURED - MAX_PLY) {
+            return score + ply;
+        }
+        if (score <= -KING_CAPTURED + MAX_PLY) {
+            return score - ply;
+        }
+        return score;
+    }
+
+    private int fromTable(int score, int ply) {
+        if (score >= KING_CAPTURED - MAX_PLY) {
+            return score - ply;
+        }
+        if (score <= -KING_CAPTURED + MAX_PLY) {
+            return score + ply;
+        }
+        return score;
+    }
+
+    private int quiescence(int alpha, int beta, int ply, Turn turn) {
+        pvLength[ply] = ply;
+        int standPat = evaluate(turn);
+        if (ply == MAX_PLY || standPat >= beta) {
+            return standPat;
+        }
+        alpha = Math.max(alpha, standPat);
+        MoveList captures = moveLists[ply];
+        chessGame.generateCaptures(turn, captures);
+        scoreMoves(captures, PackedMove.NONE);
+        for (int index = 0; index < captures.size(); index++) {
+            int move = captures.pickBest(index);
+            if (isOutOfBudget()) {
+                return 0;
+            }
+            nodes++;
+            int undo = board.makeMove(move);
+            int score = -quiescenceOrCapturedKing(-beta, -alpha, ply + 1, turn.change());
+            board.unmakeMove(undo);
+            if (stopped) {
+                return 0;
+            }
+            if (score > alpha) {
+                alpha = score;
+            }
+            if (alpha >= beta) {
+                break;
+            }
+        }
+        return alpha;
+    }
+
+    private int quiescenceOrCapturedKing(int alpha, int beta, int ply, Turn turn) {
+        if (!board.hasKing(turn.getTeam())) {
+            pvLength[ply] = ply;
+            return -KING_CAPTURED + ply;
+        }
+        return quiescence(alpha, beta, ply, turn);
+    }
+
+    private int evaluate(Turn turn) {
+        Team team = turn.getTeam();
+        Team opponent = turn.change().getTeam();
+        return (int) Math.round((board.getTotalScore(team) - board.getTotalScore(opponent)) * SCORE_SCALE);
+    }
+
+    private void scoreMoves(MoveList moves, int principalMove) {
+        for (int index = 0; index < moves.size(); index++) {
+            moves.setScore(index, orderScore(moves.get(index), principalMove));
+        }
+    }
+
+    private int orderScore(int move, int principalMove) {
+        if (principalMove != PackedMove.NONE && PackedMove.isSameSquares(move, principalMove)) {
+            return INFINITY;
+        }
+        if (!PackedMove.isCapture(move)) {
+            return 0;
+        }
+        Piece victim = board.get(Position.fromOrdinal(PackedMove.targetOf(move)));
+        Piece attacker = board.get(Position.fromOrdinal(PackedMove.sourceOf(move)));
+        return (int) (victimScore(victim) * SCORE_SCALE - attacker.getScore());
+    }
+
+    private double victimScore(Piece victim) {
+        if (victim.isKing()) {
+            return KING_CAPTURED;
+        }
+        return victim.getScore() + 1;
+    }
+
+    private int principalMove(int ply) {
+        if (ply < previousPvLength) {
+            return previousPv[ply];
+        }
+        return PackedMove.NONE;
+    }
+
+    private void updatePrincipalVariation(int ply, int move) {
+        pvTable[ply][ply] = move;
+        for (int next = ply + 1; next < pvLength[ply + 1]; next++) {
+            pvTable[ply][next] = pvTable[ply + 1][next];
+        }
+        pvLength[ply] = pvLength[ply + 1];
+    }
+
+    private List<Movement> collectPrincipalVariation() {
+        List<Movement> principalVariation = new ArrayList<>(pvLength[0]);
+        for (int ply = 0; ply < pvLength[0]; ply++) {
+            principalVariation.add(PackedMove.toMovement(pvTable[0][ply]));
+        }
+        return principalVariation;
+    }
+
+    private boolean isOutOfBudget() {
+        if (stopped) {
+            return true;
+        }
+        if (nodes >= limit.getNodes()) {
+            stopped = true;
+        }
+        if (nodes % TIME_CHECK_INTERVAL == 0
+                && (stopSignal.get() || System.nanoTime() - start >= timeBudgetNanos)) {
+            stopped = true;
+        }
+        return stopped;
+    }
+}
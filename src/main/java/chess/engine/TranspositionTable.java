@@ -0,0 +1,138 @@
+package chess.engine;
+
+import chess.model.PackedMove;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TranspositionTable {
+    private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+    private static final int SLOTS_PER_BUCKET = 2;
+    private static final int LONGS_PER_SLOT = 2;
+    private static final int LONGS_PER_BUCKET = SLOTS_PER_BUCKET * LONGS_PER_SLOT;
+    private static final int BYTES_PER_BUCKET = LONGS_PER_BUCKET * Long.BYTES;
+    private static final int MAX_BUCKETS = 1 << 28;
+    private static final int USAGE_SAMPLE = 1000;
+
+    private static final long OCCUPIED = 1L << 63;
+    private static final int DEPTH_SHIFT = 32;
+    private static final int BOUND_SHIFT = 40;
+    private static final int MOVE_SHIFT = 42;
+    private static final int AGE_SHIFT = 54;
+    private static final long DEPTH_MASK = 0xFF;
+    private static final long BOUND_MASK = 0x3;
+    private static final long AGE_MASK = 0x3F;
+    private static final long MOVE_MASK = 0xFFF;
+
+    private final long[] entries;
+    private final int bucketMask;
+    private final ReplacementPolicy policy;
+    private final AtomicInteger age = new AtomicInteger();
+
+    public TranspositionTable(int megabytes, ReplacementPolicy policy) {
+        if (megabytes < 1) {
+            throw new IllegalArgumentException("치환표의 크기는 1MB 이상이어야 합니다.");
+        }
+        int buckets = Integer.highestOneBit(
+                (int) Math.min(MAX_BUCKETS, megabytes * BYTES_PER_MEGABYTE / BYTES_PER_BUCKET));
+        this.entries = new long[buckets * LONGS_PER_BUCKET];
+        this.bucketMask = buckets - 1;
+        this.policy = policy;
+    }
+
+    public TranspositionTable(int megabytes) {
+        this(megabytes, ReplacementPolicy.DEPTH_PREFERRED);
+    }
+
+    public long probe(long key) {
+        int bucket = bucketOf(key);
+        for (int slot = bucket; slot < bucket + LONGS_PER_BUCKET; slot += LONGS_PER_SLOT) {
+            long entry = entries[slot + 1];
+            if ((entries[slot] ^ entry) == key) {
+                return entry;
+            }
+        }
+        return 0;
+    }
+
+    public void store(long key, int depth, int score, Bound bound, int move) {
+        long entry = OCCUPIED
+                | (score & 0xFFFFFFFFL)
+                | (depth & DEPTH_MASK) << DEPTH_SHIFT
+                | (long) bound.ordinal() << BOUND_SHIFT
+                | (PackedMove.squaresOf(move) & MOVE_MASK) << MOVE_SHIFT
+                | (age.get() & AGE_MASK) << AGE_SHIFT;
+        int slot = selectSlot(bucketOf(key), key, depth);
+        entries[slot] = key ^ entry;
+        entries[slot + 1] = entry;
+    }
+
+    private int bucketOf(long key) {
+        return ((int) key & bucketMask) * LONGS_PER_BUCKET;
+    }
+
+    private int selectSlot(int bucket, long key, int depth) {
+        int alwaysReplace = bucket + LONGS_PER_SLOT;
+        if (policy == ReplacementPolicy.ALWAYS_REPLACE) {
+            return bucket + ((int) (key >>> 32) & 1) * LONGS_PER_SLOT;
+        }
+        long depthPreferred = entries[bucket + 1];
+        if ((entries[bucket] ^ depthPreferred) == key
+                || ageOf(depthPreferred) != (age.get() & AGE_MASK)
+                || depth >= depthOf(depthPreferred)) {
+            return bucket;
+        }
+        return alwaysReplace;
+    }
+
+    public void newSearch() {
+        age.incrementAndGet();
+    }
+
+    public void clear() {
+        for (int index = 0; index < entries.length; index++) {
+            entries[index] = 0;
+        }
+    }
+
+    public int getUsagePerMill() {
+        int samples = Math.min(USAGE_SAMPLE, bucketMask + 1);
+        int used = 0;
+        for (int bucket = 0; bucket < samples; bucket++) {
+            for (int slot = 0; slot < SLOTS_PER_BUCKET; slot++) {
+                long entry = entries[bucket * LONGS_PER_BUCKET + slot * LONGS_PER_SLOT + 1];
+                if (isHit(entry) && ageOf(entry) == (age.get() & AGE_MASK)) {
+                    used++;
+                }
+            }
+        }
+        return used * 1000 / (samples * SLOTS_PER_BUCKET);
+    }
+
+    public long getSizeInBytes() {
+        return (long) entries.length * Long.BYTES;
+    }
+
+    public static boolean isHit(long entry) {
+        return entry != 0;
+    }
+
+    public static int scoreOf(long entry) {
+        return (int) entry;
+    }
+
+    public static int depthOf(long entry) {
+        return (int) (entry >>> DEPTH_SHIFT & DEPTH_MASK);
+    }
+
+    public static Bound boundOf(long entry) {
+        return Bound.of((int) (entry >>> BOUND_SHIFT & BOUND_MASK));
+    }
+
+    private static long ageOf(long entry) {
+        return entry >>> AGE_SHIFT & AGE_MASK;
+    }
+
+    public static int moveOf(long entry) {
+        return (int) (entry >>> MOVE_SHIFT & MOVE_MASK);
+    }
+}
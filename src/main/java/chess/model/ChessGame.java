@@ -2,14 +2,19 @@ package chess.model;
 
 import chess.model.board.Board;
 import chess.model.command.Command;
-import chess.model.piece.Empty;
 import chess.model.piece.Piece;
+import chess.model.position.Direction;
 import chess.model.position.Position;
+import chess.model.position.Route;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class ChessGame {
+    private static final Direction[] DIRECTIONS = Direction.values();
+
     private final Board board;
+    private final MoveHistory history = new MoveHistory();
 
     public ChessGame(Board board) {
         this.board = board;
@@ -32,32 +37,120 @@ public class ChessGame {
     }
 
     public void move(Position source, Position target, Turn thisTurn) {
+        MoveResult result = tryMove(source, target, thisTurn);
+        if (!result.isOk()) {
+            throw new IllegalArgumentException(result.getMessage());
+        }
+    }
+
+    public MoveResult tryMove(Position source, Position target, Turn thisTurn) {
+        MoveResult result = validate(source, target, thisTurn);
+        if (result.isOk()) {
+            history.push(board.makeMove(source, target));
+        }
+        return result;
+    }
+
+    public MoveResult validate(Position source, Position target, Turn thisTurn) {
         Piece sourcePiece = board.get(source);
         Piece targetPiece = board.get(target);
-        validateCurrentTurn(thisTurn, sourcePiece);
-        MoveType moveType = MoveType.of(sourcePiece, targetPiece);
-        if (canMove(source, target, sourcePiece, moveType)) {
-            board.move(sourcePiece, source, target);
+        if (!sourcePiece.isCurrentTurn(thisTurn)) {
+            return MoveResult.WRONG_TURN;
+        }
+        if (sourcePiece.isSameTeam(targetPiece)) {
+            return MoveResult.SAME_TEAM_TARGET;
+        }
+        if (!Route.exists(source, target)
+                || !sourcePiece.isMovable(source, target, MoveType.of(sourcePiece, targetPiece))) {
+            return MoveResult.UNREACHABLE;
+        }
+        if (hasBlock(source, target, sourcePiece)) {
+            return MoveResult.BLOCKED;
+        }
+        return MoveResult.OK;
+    }
+
+    public void undo() {
+        board.unmakeMove(history.pop());
+    }
+
+    public List<Movement> legalMoves(Turn turn) {
+        MoveList moves = new MoveList();
+        generateMoves(turn, moves);
+        return toMovements(moves);
+    }
+
+    public List<Movement> legalMoves(Position source, Turn turn) {
+        MoveList moves = new MoveList();
+        addLegalMoves(source, turn, moves, false);
+        return toMovements(moves);
+    }
+
+    private List<Movement> toMovements(MoveList moves) {
+        List<Movement> movements = new ArrayList<>(moves.size());
+        for (int index = 0; index < moves.size(); index++) {
+            movements.add(PackedMove.toMovement(moves.get(index)));
+        }
+        return movements;
+    }
+
+    public void generateMoves(Turn turn, MoveList moves) {
+        generate(turn, moves, false);
+    }
+
+    public void generateCaptures(Turn turn, MoveList moves) {
+        generate(turn, moves, true);
+    }
+
+    private void generate(Turn turn, MoveList moves, boolean capturesOnly) {
+        moves.clear();
+        long sources = board.getOccupancy(turn.getTeam());
+        while (sources != 0) {
+            addLegalMoves(Position.fromOrdinal(Long.numberOfTrailingZeros(sources)), turn, moves, capturesOnly);
+            sources &= sources - 1;
+        }
+    }
+
+    private void addLegalMoves(Position source, Turn turn, MoveList moves, boolean capturesOnly) {
+        Piece sourcePiece = board.get(source);
+        if (sourcePiece.isTeam(Team.NONE) || !sourcePiece.isCurrentTurn(turn)) {
             return;
         }
-        throw new IllegalArgumentException("움직일 수 없습니다.");
+        for (Direction direction : DIRECTIONS) {
+            addLegalMoves(source, sourcePiece, source.getRay(direction), moves, capturesOnly);
+        }
     }
 
-    private boolean canMove(Position sourcePosition, Position targetPosition, Piece sourcePiece, MoveType moveType) {
-        return sourcePiece.isMovable(sourcePosition, targetPosition, moveType)
-                && !hasBlock(sourcePosition, targetPosition, sourcePiece);
+    private void addLegalMoves(Position source, Piece sourcePiece, List<Position> ray, MoveList moves,
+                               boolean capturesOnly) {
+        for (int index = 0; index < ray.size(); index++) {
+            Position target = ray.get(index);
+            Piece targetPiece = board.get(target);
+            boolean capture = !targetPiece.isTeam(Team.NONE);
+            if ((capture || !capturesOnly) && isLegalTarget(source, target, sourcePiece, targetPiece)) {
+                moves.add(PackedMove.of(source.getOrdinal(), target.getOrdinal(), capture ? PackedMove.CAPTURE : 0));
+            }
+            if (capture) {
+                return;
+            }
+        }
     }
 
-    private boolean hasBlock(Position source, Position target, Piece sourcePiece) {
-        List<Position> positions = sourcePiece.getIntervalPosition(source, target);
-        return positions.stream()
-                .anyMatch(position -> !board.get(position).equals(new Empty()));
+    private boolean isLegalTarget(Position source, Position target, Piece sourcePiece, Piece targetPiece) {
+        if (sourcePiece.isSameTeam(targetPiece)) {
+            return false;
+        }
+        return sourcePiece.isMovable(source, target, MoveType.of(sourcePiece, targetPiece));
     }
 
-    private void validateCurrentTurn(Turn thisTurn, Piece sourcePiece) {
-        if (!sourcePiece.isCurrentTurn(thisTurn)) {
-            throw new IllegalArgumentException("본인의 말을 움직여야 합니다.");
+    private boolean hasBlock(Position source, Position target, Piece sourcePiece) {
+        List<Position> positions = sourcePiece.getIntervalPosition(source, target);
+        for (int index = 0; index < positions.size(); index++) {
+            if (!board.get(positions.get(index)).isTeam(Team.NONE)) {
+                return true;
+            }
         }
+        return false;
     }
 
     public Board getBoard() {
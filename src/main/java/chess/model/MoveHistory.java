@@ -0,0 +1,32 @@
+package chess.model;
+
+import java.util.Arrays;
+
+public class MoveHistory {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] undos = new int[INITIAL_CAPACITY];
+    private int size;
+
+    public void push(int undo) {
+        if (size == undos.length) {
+            undos = Arrays.copyOf(undos, size * 2);
+        }
+        undos[size++] = undo;
+    }
+
+    public int pop() {
+        if (isEmpty()) {
+            throw new IllegalArgumentException("되돌릴 수가 없습니다.");
+        }
+        return undos[--size];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,69 @@
+package chess.model;
+
+import java.util.Arrays;
+
+public class MoveList {
+    private static final int CAPACITY = 256;
+
+    private int[] moves = new int[CAPACITY];
+    private int[] scores = new int[CAPACITY];
+    private int size;
+
+    public void add(int move) {
+        if (size == moves.length) {
+            moves = Arrays.copyOf(moves, size * 2);
+            scores = Arrays.copyOf(scores, size * 2);
+        }
+        scores[size] = 0;
+        moves[size++] = move;
+    }
+
+    public int get(int index) {
+        return moves[index];
+    }
+
+    public void setScore(int index, int score) {
+        scores[index] = score;
+    }
+
+    public int pickBest(int index) {
+        int best = index;
+        for (int next = index + 1; next < size; next++) {
+            if (scores[next] > scores[best]) {
+                best = next;
+            }
+        }
+        swap(index, best);
+        return moves[index];
+    }
+
+    private void swap(int index, int other) {
+        int move = moves[index];
+        moves[index] = moves[other];
+        moves[other] = move;
+        int score = scores[index];
+        scores[index] = scores[other];
+        scores[other] = score;
+    }
+
+    public boolean contains(int move) {
+        for (int index = 0; index < size; index++) {
+            if (PackedMove.isSameSquares(moves[index], move)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
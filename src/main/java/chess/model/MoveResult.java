@@ -0,0 +1,25 @@
+package chess.model;
+
+public enum MoveResult {
+    OK(""),
+    WRONG_TURN("본인의 말을 움직여야 합니다."),
+    SAME_TEAM_TARGET("타겟 위치에 같은 팀 말이 있습니다."),
+    BLOCKED("이동 경로에 다른 말이 있습니다."),
+    UNREACHABLE("움직일 수 없습니다."),
+    OUTDATED("수를 찾는 동안 게임이 진행되었습니다."),
+    BUSY("컴퓨터가 다른 게임의 수를 찾고 있습니다. 잠시 후 다시 시도해 주세요.");
+
+    private final String message;
+
+    MoveResult(String message) {
+        this.message = message;
+    }
+
+    public boolean isOk() {
+        return this == OK;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,41 @@
+package chess.model;
+
+import chess.model.position.Position;
+
+import java.util.Objects;
+
+public class Movement {
+    private final Position source;
+    private final Position target;
+
+    public Movement(Position source, Position target) {
+        this.source = source;
+        this.target = target;
+    }
+
+    public Position getSource() {
+        return source;
+    }
+
+    public Position getTarget() {
+        return target;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Movement movement = (Movement) o;
+        return source.equals(movement.source) && target.equals(movement.target);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(source, target);
+    }
+
+    @Override
+    public String toString() {
+        return source.getPosition() + target.getPosition();
+    }
+}
@@ -0,0 +1,53 @@
+package chess.model;
+
+import chess.model.position.Position;
+
+public class PackedMove {
+    public static final int NONE = 0;
+    public static final int CAPTURE = 1;
+
+    private static final int SQUARE_BITS = 6;
+    private static final int SQUARE_MASK = (1 << SQUARE_BITS) - 1;
+    private static final int FLAG_SHIFT = SQUARE_BITS * 2;
+    private static final int SQUARES_MASK = (1 << FLAG_SHIFT) - 1;
+
+    public static int of(int source, int target, int flags) {
+        return source | target << SQUARE_BITS | flags << FLAG_SHIFT;
+    }
+
+    public static int of(Position source, Position target) {
+        return of(source.getOrdinal(), target.getOrdinal(), 0);
+    }
+
+    public static int of(Movement movement) {
+        return of(movement.getSource(), movement.getTarget());
+    }
+
+    public static int sourceOf(int move) {
+        return move & SQUARE_MASK;
+    }
+
+    public static int targetOf(int move) {
+        return move >>> SQUARE_BITS & SQUARE_MASK;
+    }
+
+    public static int squaresOf(int move) {
+        return move & SQUARES_MASK;
+    }
+
+    public static boolean isSameSquares(int move, int other) {
+        return squaresOf(move) == squaresOf(other);
+    }
+
+    public static boolean isCapture(int move) {
+        return (move >>> FLAG_SHIFT & CAPTURE) != 0;
+    }
+
+    public static Movement toMovement(int move) {
+        return new Movement(Position.fromOrdinal(sourceOf(move)), Position.fromOrdinal(targetOf(move)));
+    }
+
+    public static String toString(int move) {
+        return Position.fromOrdinal(sourceOf(move)).getPosition() + Position.fromOrdinal(targetOf(move)).getPosition();
+    }
+}
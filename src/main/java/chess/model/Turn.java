@@ -34,6 +34,10 @@ public class Turn {
         return TURN_BLACK;
     }
 
+    public Team getTeam() {
+        return team;
+    }
+
     public String getThisTurn() {
         return team.name();
     }
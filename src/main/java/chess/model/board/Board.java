@@ -1,71 +1,309 @@
 package chess.model.board;
 
+import chess.model.PackedMove;
 import chess.model.Team;
-import chess.model.piece.Empty;
+import chess.model.Turn;
 import chess.model.piece.Piece;
-import chess.model.position.File;
+import chess.model.piece.PieceFactory;
+import chess.model.piece.PieceType;
 import chess.model.position.Position;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-
-import static java.util.stream.Collectors.counting;
+import java.util.Optional;
 
 public class Board {
-    private final Map<Position, Piece> board;
+    private static final int SQUARE_COUNT = 64;
+    private static final int FILE_COUNT = 8;
+    private static final int SCORE_UNIT = 2;
+    private static final int SQUARE_BITS = 6;
+    private static final int SQUARE_MASK = SQUARE_COUNT - 1;
+    private static final int PIECE_BITS = 4;
+    private static final int PIECE_MASK = (1 << PIECE_BITS) - 1;
+    private static final int FEN_CAPACITY = 96;
+    private static final Team[] TEAMS = {Team.BLACK, Team.WHITE};
+    private static final PieceType[] TYPES = PieceType.values();
+    private static final Piece[][] PIECES = new Piece[TEAMS.length][PieceType.PIECE_COUNT];
+    private static final int[] SCORES = new int[PieceType.PIECE_COUNT];
+    private static final int PAWN = PieceType.PAWN.ordinal();
+    private static final Piece EMPTY = PieceFactory.of(Team.NONE, PieceType.EMPTY);
+
+    static {
+        for (Team team : TEAMS) {
+            for (int type = 0; type < PieceType.PIECE_COUNT; type++) {
+                PIECES[team.ordinal()][type] = PieceFactory.of(team, TYPES[type]);
+            }
+        }
+        for (int type = 0; type < PieceType.PIECE_COUNT; type++) {
+            SCORES[type] = (int) (PIECES[Team.WHITE.ordinal()][type].getScore() * SCORE_UNIT);
+        }
+    }
+
+    private final long[][] pieces = new long[TEAMS.length][PieceType.PIECE_COUNT];
+    private final long[] occupied = new long[TEAMS.length];
+    private final Piece[] squares = new Piece[SQUARE_COUNT];
+    private final int[] scoreExcludingPawn = new int[TEAMS.length];
+    private final int[] pawnScore = new int[TEAMS.length];
+    private final int[][] pawnCounts = new int[TEAMS.length][FILE_COUNT];
+    private long zobristKey;
+
+    Board() {
+        clear();
+    }
 
     public Board(Map<Position, Piece> board) {
-        this.board = board;
+        this();
+        board.forEach(this::put);
+    }
+
+    private Board(Board board) {
+        for (int team = 0; team < TEAMS.length; team++) {
+            System.arraycopy(board.pieces[team], 0, pieces[team], 0, PieceType.PIECE_COUNT);
+            System.arraycopy(board.pawnCounts[team], 0, pawnCounts[team], 0, FILE_COUNT);
+        }
+        System.arraycopy(board.squares, 0, squares, 0, SQUARE_COUNT);
+        System.arraycopy(board.occupied, 0, occupied, 0, TEAMS.length);
+        System.arraycopy(board.scoreExcludingPawn, 0, scoreExcludingPawn, 0, TEAMS.length);
+        System.arraycopy(board.pawnScore, 0, pawnScore, 0, TEAMS.length);
+        zobristKey = board.zobristKey;
+    }
+
+    public Board copy() {
+        return new Board(this);
     }
 
     public Piece get(Position position) {
-        return board.get(position);
+        return squares[position.getOrdinal()];
     }
 
     public Map<Position, Piece> getBoard() {
+        Map<Position, Piece> board = new LinkedHashMap<>(SQUARE_COUNT);
+        for (int rank = FILE_COUNT - 1; rank >= 0; rank--) {
+            for (int file = 0; file < FILE_COUNT; file++) {
+                int square = rank * FILE_COUNT + file;
+                board.put(Position.fromOrdinal(square), squares[square]);
+            }
+        }
         return board;
     }
 
+    public String toFen(Turn turn) {
+        StringBuilder fen = new StringBuilder(FEN_CAPACITY);
+        for (int rank = FILE_COUNT - 1; rank >= 0; rank--) {
+            appendRank(fen, rank);
+            if (rank > 0) {
+                fen.append('/');
+            }
+        }
+        return fen.append(Fen.sideOf(turn)).toString();
+    }
+
+    private void appendRank(StringBuilder fen, int rank) {
+        int empty = 0;
+        for (int file = 0; file < FILE_COUNT; file++) {
+            Piece piece = squares[rank * FILE_COUNT + file];
+            if (piece.isTeam(Team.NONE)) {
+                empty++;
+            } else {
+                appendEmpty(fen, empty);
+                empty = 0;
+                fen.append(Fen.symbolOf(teamIndex(piece), piece.getType().ordinal()));
+            }
+        }
+        appendEmpty(fen, empty);
+    }
+
+    private void appendEmpty(StringBuilder fen, int empty) {
+        if (empty > 0) {
+            fen.append(empty);
+        }
+    }
+
     public void move(Piece sourcePiece, Position source, Position target) {
-        board.replace(target, sourcePiece);
-        board.replace(source, new Empty());
+        remove(target.getOrdinal());
+        remove(source.getOrdinal());
+        put(target, sourcePiece);
     }
 
-    public long countKing() {
-        return board.values()
-                .stream()
-                .filter(Piece::isKing)
-                .count();
+    public int makeMove(Position source, Position target) {
+        return makeMove(PackedMove.of(source, target));
     }
 
-    public double getTotalScore(Team team) {
-        double scoreExcludingPawn = board.values()
-                .stream()
-                .filter(piece -> !piece.isPawn())
-                .filter(piece -> piece.isTeam(team))
-                .mapToDouble(Piece::getScore)
-                .sum();
+    public int makeMove(int move) {
+        int sourceSquare = PackedMove.sourceOf(move);
+        int targetSquare = PackedMove.targetOf(move);
+        int movedPiece = codeOf(squares[sourceSquare]);
+        int capturedPiece = codeOf(squares[targetSquare]);
+
+        remove(targetSquare);
+        remove(sourceSquare);
+        put(targetSquare, movedPiece);
+        return sourceSquare
+                | targetSquare << SQUARE_BITS
+                | movedPiece << SQUARE_BITS * 2
+                | capturedPiece << SQUARE_BITS * 2 + PIECE_BITS;
+    }
+
+    public void unmakeMove(int undo) {
+        int sourceSquare = undo & SQUARE_MASK;
+        int targetSquare = undo >>> SQUARE_BITS & SQUARE_MASK;
+        int movedPiece = undo >>> SQUARE_BITS * 2 & PIECE_MASK;
+        int capturedPiece = undo >>> SQUARE_BITS * 2 + PIECE_BITS & PIECE_MASK;
+
+        remove(targetSquare);
+        put(sourceSquare, movedPiece);
+        put(targetSquare, capturedPiece);
+    }
+
+    void clear() {
+        for (int team = 0; team < TEAMS.length; team++) {
+            Arrays.fill(pieces[team], 0L);
+            Arrays.fill(pawnCounts[team], 0);
+        }
+        Arrays.fill(squares, EMPTY);
+        Arrays.fill(occupied, 0L);
+        Arrays.fill(scoreExcludingPawn, 0);
+        Arrays.fill(pawnScore, 0);
+        zobristKey = 0L;
+    }
+
+    int codeAt(int square) {
+        return codeOf(squares[square]);
+    }
+
+    private int codeOf(Piece piece) {
+        if (piece.isTeam(Team.NONE)) {
+            return 0;
+        }
+        return teamIndex(piece) * PieceType.PIECE_COUNT + piece.getType().ordinal() + 1;
+    }
+
+    void put(int square, int code) {
+        if (code == 0) {
+            return;
+        }
+        put(square, (code - 1) / PieceType.PIECE_COUNT, (code - 1) % PieceType.PIECE_COUNT);
+    }
+
+    private void put(Position position, Piece piece) {
+        if (piece.isTeam(Team.NONE)) {
+            return;
+        }
+        put(position.getOrdinal(), teamIndex(piece), piece.getType().ordinal());
+    }
 
-        return scoreExcludingPawn + pawnScore(team);
+    void put(int square, int team, int type) {
+        pieces[team][type] |= 1L << square;
+        occupied[team] |= 1L << square;
+        squares[square] = PIECES[team][type];
+        zobristKey ^= Zobrist.piece(team, type, square);
+        updateScore(team, type, square, 1);
     }
 
-    private double pawnScore(Team team) {
-        Map<File, Long> collect = board.entrySet()
-                .stream()
-                .filter((entry) -> entry.getValue().isPawn())
-                .filter((entry) -> entry.getValue().isTeam(team))
-                .collect(Collectors.groupingBy(entry -> entry.getKey().getFile(), counting()));
+    private void remove(int square) {
+        Piece piece = squares[square];
+        if (piece.isTeam(Team.NONE)) {
+            return;
+        }
+        int team = teamIndex(piece);
+        int type = piece.getType().ordinal();
+        pieces[team][type] &= ~(1L << square);
+        occupied[team] &= ~(1L << square);
+        squares[square] = EMPTY;
+        zobristKey ^= Zobrist.piece(team, type, square);
+        updateScore(team, type, square, -1);
+    }
 
-        return collect.values()
-                .stream()
-                .mapToDouble(this::getScore)
-                .sum();
+    private void updateScore(int team, int type, int square, int count) {
+        if (type != PAWN) {
+            scoreExcludingPawn[team] += SCORES[type] * count;
+            return;
+        }
+        int[] counts = pawnCounts[team];
+        int file = square % FILE_COUNT;
+        pawnScore[team] -= pawnFileScore(counts[file]);
+        counts[file] += count;
+        pawnScore[team] += pawnFileScore(counts[file]);
     }
 
-    private double getScore(Long count) {
+    private int pawnFileScore(int count) {
         if (count == 1) {
-            return count * 1.0;
+            return SCORES[PAWN];
+        }
+        return count * SCORES[PAWN] / SCORE_UNIT;
+    }
+
+    private int teamIndex(Piece piece) {
+        if (piece.isTeam(Team.WHITE)) {
+            return Team.WHITE.ordinal();
+        }
+        return Team.BLACK.ordinal();
+    }
+
+    public long getZobristKey(Turn turn) {
+        if (turn.isCurrentTeam(Team.BLACK)) {
+            return zobristKey ^ Zobrist.blackToMove();
+        }
+        return zobristKey;
+    }
+
+    public long getOccupancy(Team team) {
+        if (team == Team.NONE) {
+            return 0L;
+        }
+        return occupied[team.ordinal()];
+    }
+
+    public List<Position> getPositions(Team team) {
+        if (team == Team.NONE) {
+            return List.of();
+        }
+        return toPositions(occupied[team.ordinal()]);
+    }
+
+    public List<Position> getPositions(Team team, PieceType type) {
+        if (team == Team.NONE || type == PieceType.EMPTY) {
+            return List.of();
+        }
+        return toPositions(pieces[team.ordinal()][type.ordinal()]);
+    }
+
+    private List<Position> toPositions(long squares) {
+        List<Position> positions = new ArrayList<>(Long.bitCount(squares));
+        while (squares != 0) {
+            positions.add(Position.fromOrdinal(Long.numberOfTrailingZeros(squares)));
+            squares &= squares - 1;
+        }
+        return positions;
+    }
+
+    public boolean hasKing(Team team) {
+        if (team == Team.NONE) {
+            return false;
+        }
+        return pieces[team.ordinal()][PieceType.KING.ordinal()] != 0;
+    }
+
+    public Optional<Position> findKing(Team team) {
+        if (!hasKing(team)) {
+            return Optional.empty();
+        }
+        long king = pieces[team.ordinal()][PieceType.KING.ordinal()];
+        return Optional.of(Position.fromOrdinal(Long.numberOfTrailingZeros(king)));
+    }
+
+    public long countKing() {
+        int king = PieceType.KING.ordinal();
+        return Long.bitCount(pieces[Team.BLACK.ordinal()][king] | pieces[Team.WHITE.ordinal()][king]);
+    }
+
+    public double getTotalScore(Team team) {
+        if (team == Team.NONE) {
+            return 0D;
         }
-        return count * 0.5;
+        return (double) (scoreExcludingPawn[team.ordinal()] + pawnScore[team.ordinal()]) / SCORE_UNIT;
     }
 }
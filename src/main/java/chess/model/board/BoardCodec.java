@@ -0,0 +1,82 @@
+package chess.model.board;
+
+import chess.model.Team;
+import chess.model.Turn;
+import chess.model.piece.PieceType;
+
+public class BoardCodec {
+    public static final int LENGTH = 33;
+
+    private static final int SQUARE_COUNT = 64;
+    private static final int NIBBLE_BITS = 4;
+    private static final int NIBBLE_MASK = (1 << NIBBLE_BITS) - 1;
+    private static final int MAX_PIECE_CODE = PieceType.PIECE_COUNT * 2;
+    private static final int TURN_INDEX = LENGTH - 1;
+    private static final byte WHITE_TO_MOVE = 0;
+    private static final byte BLACK_TO_MOVE = 1;
+    private static final byte FINISHED = 2;
+
+    public static byte[] encode(Board board, Turn turn) {
+        byte[] bytes = new byte[LENGTH];
+        encode(board, turn, bytes);
+        return bytes;
+    }
+
+    public static void encode(Board board, Turn turn, byte[] bytes) {
+        validateLength(bytes);
+        for (int square = 0; square < SQUARE_COUNT; square += 2) {
+            bytes[square / 2] = (byte) (board.codeAt(square) | board.codeAt(square + 1) << NIBBLE_BITS);
+        }
+        bytes[TURN_INDEX] = turnCodeOf(turn);
+    }
+
+    private static byte turnCodeOf(Turn turn) {
+        if (turn.isCurrentTeam(Team.WHITE)) {
+            return WHITE_TO_MOVE;
+        }
+        if (turn.isCurrentTeam(Team.BLACK)) {
+            return BLACK_TO_MOVE;
+        }
+        return FINISHED;
+    }
+
+    public static Board decode(byte[] bytes) {
+        Board board = new Board();
+        decode(bytes, board);
+        return board;
+    }
+
+    public static void decode(byte[] bytes, Board board) {
+        validateLength(bytes);
+        board.clear();
+        for (int square = 0; square < SQUARE_COUNT; square += 2) {
+            int pair = bytes[square / 2];
+            board.put(square, pieceCodeOf(pair & NIBBLE_MASK));
+            board.put(square + 1, pieceCodeOf(pair >>> NIBBLE_BITS & NIBBLE_MASK));
+        }
+    }
+
+    private static int pieceCodeOf(int nibble) {
+        if (nibble > MAX_PIECE_CODE) {
+            throw new IllegalArgumentException("존재하지 않는 말입니다.");
+        }
+        return nibble;
+    }
+
+    public static Turn decodeTurn(byte[] bytes) {
+        validateLength(bytes);
+        if (bytes[TURN_INDEX] == WHITE_TO_MOVE) {
+            return Turn.from(Team.WHITE.name());
+        }
+        if (bytes[TURN_INDEX] == BLACK_TO_MOVE) {
+            return Turn.from(Team.BLACK.name());
+        }
+        return Turn.from(Team.NONE.name());
+    }
+
+    private static void validateLength(byte[] bytes) {
+        if (bytes.length != LENGTH) {
+            throw new IllegalArgumentException("체스판 데이터의 길이가 올바르지 않습니다.");
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package chess.model.board;
 
 import chess.model.Team;
+import chess.model.Turn;
 import chess.model.piece.*;
 import chess.model.position.File;
 import chess.model.position.Position;
@@ -25,6 +26,14 @@ public class BoardFactory {
         return new Board(board);
     }
 
+    public static Board create(String fen) {
+        return Fen.toBoard(fen);
+    }
+
+    public static Turn createTurn(String fen) {
+        return Fen.toTurn(fen);
+    }
+
     private static Map<Position, Piece> initPieces(String rank, Team team) {
         Map<Position, Piece> pieces = new LinkedHashMap<>();
         pieces.put(Position.from("a" + rank), new Rook(team));
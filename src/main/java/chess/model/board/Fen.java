@@ -0,0 +1,116 @@
+package chess.model.board;
+
+import chess.model.Team;
+import chess.model.Turn;
+import chess.model.piece.PieceType;
+
+class Fen {
+    private static final String SYMBOLS = "pnbrqk";
+    private static final String BLACK_TO_MOVE = "b";
+    private static final String WHITE_TO_MOVE = "w";
+    private static final String NO_CASTLING_AND_EN_PASSANT = " - - 0 1";
+    private static final char RANK_SEPARATOR = '/';
+    private static final char FIELD_SEPARATOR = ' ';
+    private static final int LINE_COUNT = 8;
+    private static final int PIECES_PER_TEAM = 16;
+    private static final int PAWN = PieceType.PAWN.ordinal();
+    private static final int KING = PieceType.KING.ordinal();
+    private static final int[] INITIAL_COUNTS = {8, 2, 2, 2, 1, 1};
+    private static final int WHITE = Team.WHITE.ordinal();
+    private static final int BLACK = Team.BLACK.ordinal();
+
+    static Board toBoard(String fen) {
+        Board board = new Board();
+        int[][] counts = new int[Team.values().length][SYMBOLS.length()];
+        int rank = LINE_COUNT - 1;
+        int file = 0;
+        boolean afterDigit = false;
+        for (int index = 0; index < fen.length() && fen.charAt(index) != FIELD_SEPARATOR; index++) {
+            char symbol = fen.charAt(index);
+            if (symbol == RANK_SEPARATOR) {
+                validate(file == LINE_COUNT && rank > 0);
+                rank--;
+                file = 0;
+                afterDigit = false;
+            } else if (symbol >= '1' && symbol <= '8') {
+                validate(!afterDigit);
+                file += symbol - '0';
+                validate(file <= LINE_COUNT);
+                afterDigit = true;
+            } else {
+                int type = SYMBOLS.indexOf(Character.toLowerCase(symbol));
+                validate(type >= 0 && file < LINE_COUNT);
+                board.put(rank * LINE_COUNT + file, teamOf(symbol), type);
+                counts[teamOf(symbol)][type]++;
+                file++;
+                afterDigit = false;
+            }
+        }
+        validate(rank == 0 && file == LINE_COUNT);
+        validateCounts(counts[WHITE]);
+        validateCounts(counts[BLACK]);
+        return board;
+    }
+
+    private static void validateCounts(int[] counts) {
+        if (counts[KING] != 1) {
+            throw new IllegalArgumentException("왕은 팀마다 하나씩 있어야 합니다.");
+        }
+        int total = 0;
+        int promoted = 0;
+        for (int type = 0; type < counts.length; type++) {
+            total += counts[type];
+            if (type != PAWN) {
+                promoted += Math.max(0, counts[type] - INITIAL_COUNTS[type]);
+            }
+        }
+        if (total > PIECES_PER_TEAM || promoted > INITIAL_COUNTS[PAWN] - counts[PAWN]) {
+            throw new IllegalArgumentException("말의 개수가 올바르지 않습니다.");
+        }
+    }
+
+    private static int teamOf(char symbol) {
+        if (Character.isUpperCase(symbol)) {
+            return WHITE;
+        }
+        return BLACK;
+    }
+
+    static Turn toTurn(String fen) {
+        int separator = fen.indexOf(FIELD_SEPARATOR);
+        if (separator < 0) {
+            return Turn.init();
+        }
+        int end = fen.indexOf(FIELD_SEPARATOR, separator + 1);
+        if (end < 0) {
+            end = fen.length();
+        }
+        String side = fen.substring(separator + 1, end);
+        if (BLACK_TO_MOVE.equals(side)) {
+            return Turn.init().change();
+        }
+        validate(WHITE_TO_MOVE.equals(side));
+        return Turn.init();
+    }
+
+    static char symbolOf(int team, int type) {
+        char symbol = SYMBOLS.charAt(type);
+        if (team == WHITE) {
+            return Character.toUpperCase(symbol);
+        }
+        return symbol;
+    }
+
+    static String sideOf(Turn turn) {
+        if (turn.isCurrentTeam(Team.BLACK)) {
+            return FIELD_SEPARATOR + BLACK_TO_MOVE + NO_CASTLING_AND_EN_PASSANT;
+        }
+        return FIELD_SEPARATOR + WHITE_TO_MOVE + NO_CASTLING_AND_EN_PASSANT;
+    }
+
+    private static void validate(boolean condition) {
+        if (!condition) {
+            throw new IllegalArgumentException("FEN 형식이 올바르지 않습니다.");
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package chess.model.board;
+
+import chess.model.piece.PieceType;
+
+import java.util.SplittableRandom;
+
+class Zobrist {
+    private static final long SEED = 0x636865737321L;
+    private static final int TEAM_COUNT = 2;
+    private static final int SQUARE_COUNT = 64;
+    private static final long[][][] PIECE_KEYS = new long[TEAM_COUNT][PieceType.PIECE_COUNT][SQUARE_COUNT];
+    private static final long BLACK_TO_MOVE;
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (long[][] teamKeys : PIECE_KEYS) {
+            for (long[] typeKeys : teamKeys) {
+                for (int square = 0; square < SQUARE_COUNT; square++) {
+                    typeKeys[square] = random.nextLong();
+                }
+            }
+        }
+        BLACK_TO_MOVE = random.nextLong();
+    }
+
+    static long piece(int team, int type, int square) {
+        return PIECE_KEYS[team][type][square];
+    }
+
+    static long blackToMove() {
+        return BLACK_TO_MOVE;
+    }
+}
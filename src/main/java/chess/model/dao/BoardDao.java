@@ -0,0 +1,60 @@
+package chess.model.dao;
+
+import chess.model.Turn;
+import chess.model.board.Board;
+import chess.model.board.BoardCodec;
+import chess.model.dto.SnapshotDto;
+import chess.utils.DBConnector;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.util.Optional;
+
+public class BoardDao {
+    private final DataSource dataSource;
+
+    public BoardDao() {
+        this(DBConnector.getDataSource());
+    }
+
+    public BoardDao(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    void save(Connection connection, int gameId, int ply, Board board, Turn turn) throws SQLException {
+        String query = "insert into boards (game_id, ply, state) values (?, ?, ?) "
+                + "on duplicate key update ply = values(ply), state = values(state)";
+        try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            preparedStatement.setInt(1, gameId);
+            preparedStatement.setInt(2, ply);
+            preparedStatement.setBytes(3, BoardCodec.encode(board, turn));
+            preparedStatement.executeUpdate();
+        }
+    }
+
+    public Optional<SnapshotDto> findOne(int gameId) {
+        String query = "select ply, state from boards where game_id = (?)";
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            preparedStatement.setInt(1, gameId);
+            ResultSet resultSet = preparedStatement.executeQuery();
+            if (resultSet.next()) {
+                return Optional.of(new SnapshotDto(resultSet.getInt("ply"), resultSet.getBytes("state")));
+            }
+            return Optional.empty();
+        } catch (SQLException throwables) {
+            throw new IllegalArgumentException("체스판을 불러올 수 없습니다.", throwables);
+        }
+    }
+
+    public void deleteAll(int gameId) {
+        String query = "DELETE FROM boards WHERE game_id = (?)";
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            preparedStatement.setInt(1, gameId);
+            preparedStatement.executeUpdate();
+        } catch (SQLException throwables) {
+            throwables.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package chess.model.dao;
+
+import chess.model.Turn;
+import chess.model.board.Board;
+import chess.utils.DBConnector;
+
+import javax.sql.DataSource;
+import java.sql.*;
+
+public class GameDao {
+    private final DataSource dataSource;
+    private final BoardDao boardDao;
+
+    public GameDao() {
+        this(DBConnector.getDataSource());
+    }
+
+    public GameDao(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.boardDao = new BoardDao(dataSource);
+    }
+
+    public int create(Board board, Turn turn) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                int gameId = insert(connection);
+                boardDao.save(connection, gameId, 0, board, turn);
+                connection.commit();
+                return gameId;
+            } catch (SQLException throwables) {
+                connection.rollback();
+                throw throwables;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException throwables) {
+            throw new IllegalArgumentException("게임을 만들 수 없습니다.", throwables);
+        }
+    }
+
+    private int insert(Connection connection) throws SQLException {
+        String query = "insert into games () values ()";
+        try (PreparedStatement preparedStatement = connection.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
+            preparedStatement.executeUpdate();
+            ResultSet generatedKeys = preparedStatement.getGeneratedKeys();
+            if (generatedKeys.next()) {
+                return generatedKeys.getInt(1);
+            }
+        }
+        throw new SQLException("게임 번호를 받지 못했습니다.");
+    }
+
+    public boolean exists(int gameId) {
+        String query = "select game_id from games where game_id = (?)";
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            preparedStatement.setInt(1, gameId);
+            ResultSet resultSet = preparedStatement.executeQuery();
+            return resultSet.next();
+        } catch (SQLException throwables) {
+            throw new IllegalArgumentException("게임을 불러올 수 없습니다.", throwables);
+        }
+    }
+
+    public void delete(int gameId) {
+        String query = "DELETE FROM games WHERE game_id = (?)";
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            preparedStatement.setInt(1, gameId);
+            preparedStatement.executeUpdate();
+        } catch (SQLException throwables) {
+            throwables.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package chess.model.dao;
+
+import chess.model.Movement;
+import chess.model.Turn;
+import chess.model.board.Board;
+import chess.model.dto.MoveRecordDto;
+import chess.model.position.Position;
+import chess.utils.DBConnector;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+public class MoveDao {
+    private final DataSource dataSource;
+    private final BoardDao boardDao;
+
+    public MoveDao() {
+        this(DBConnector.getDataSource());
+    }
+
+    public MoveDao(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.boardDao = new BoardDao(dataSource);
+    }
+
+    public void append(int gameId, int ply, Position source, Position target, String captured) {
+        try (Connection connection = dataSource.getConnection()) {
+            insert(connection, gameId, ply, source, target, captured);
+        } catch (SQLException throwables) {
+            throw new IllegalArgumentException("기보를 저장할 수 없습니다.", throwables);
+        }
+    }
+
+    public void append(int gameId, int ply, Position source, Position target, String captured,
+                       Board snapshot, Turn nextTurn) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                insert(connection, gameId, ply, source, target, captured);
+                boardDao.save(connection, gameId, ply, snapshot, nextTurn);
+                connection.commit();
+            } catch (SQLException throwables) {
+                connection.rollback();
+                throw throwables;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException throwables) {
+            throw new IllegalArgumentException("기보를 저장할 수 없습니다.", throwables);
+        }
+    }
+
+    private void insert(Connection connection, int gameId, int ply, Position source, Position target,
+                        String captured) throws SQLException {
+        String query = "insert into moves (game_id, ply, source, target, captured) values (?, ?, ?, ?, ?)";
+        try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            preparedStatement.setInt(1, gameId);
+            preparedStatement.setInt(2, ply);
+            preparedStatement.setString(3, source.getPosition());
+            preparedStatement.setString(4, target.getPosition());
+            preparedStatement.setString(5, captured);
+            preparedStatement.executeUpdate();
+        }
+    }
+
+    public List<MoveRecordDto> findAfter(int gameId, int ply) {
+        String query = "select ply, source, target from moves where game_id = (?) and ply > (?) order by ply";
+        List<MoveRecordDto> records = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            preparedStatement.setInt(1, gameId);
+            preparedStatement.setInt(2, ply);
+            ResultSet resultSet = preparedStatement.executeQuery();
+            while (resultSet.next()) {
+                Movement movement = new Movement(Position.from(resultSet.getString("source")),
+                        Position.from(resultSet.getString("target")));
+                records.add(new MoveRecordDto(resultSet.getInt("ply"), movement));
+            }
+        } catch (SQLException throwables) {
+            throw new IllegalArgumentException("기보를 불러올 수 없습니다.", throwables);
+        }
+        return records;
+    }
+
+    public void deleteAll(int gameId) {
+        String query = "DELETE FROM moves WHERE game_id = (?)";
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            preparedStatement.setInt(1, gameId);
+            preparedStatement.executeUpdate();
+        } catch (SQLException throwables) {
+            throwables.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package chess.model.dto;
+
+import chess.model.Movement;
+
+public class MoveRecordDto {
+    private final int ply;
+    private final Movement movement;
+
+    public MoveRecordDto(int ply, Movement movement) {
+        this.ply = ply;
+        this.movement = movement;
+    }
+
+    public int getPly() {
+        return ply;
+    }
+
+    public Movement getMovement() {
+        return movement;
+    }
+}
@@ -0,0 +1,19 @@
+package chess.model.dto;
+
+public class SnapshotDto {
+    private final int ply;
+    private final byte[] state;
+
+    public SnapshotDto(int ply, byte[] state) {
+        this.ply = ply;
+        this.state = state;
+    }
+
+    public int getPly() {
+        return ply;
+    }
+
+    public byte[] getState() {
+        return state;
+    }
+}
@@ -13,6 +13,11 @@ public class Bishop extends Piece {
         super(team, new UnlimitedMoveStrategy(Direction.diagonal()));
     }
 
+    @Override
+    public PieceType getType() {
+        return PieceType.BISHOP;
+    }
+
     @Override
     public double getScore() {
         return SCORE;
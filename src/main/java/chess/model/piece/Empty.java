@@ -17,6 +17,11 @@ public class Empty extends Piece {
         return NAME;
     }
 
+    @Override
+    public PieceType getType() {
+        return PieceType.EMPTY;
+    }
+
     @Override
     public double getScore() {
         return SCORE;
@@ -14,6 +14,11 @@ public class King extends Piece {
         super(team, new LimitedMoveStrategy(Direction.all(), Distance.oneStep()));
     }
 
+    @Override
+    public PieceType getType() {
+        return PieceType.KING;
+    }
+
     @Override
     public double getScore() {
         return SCORE;
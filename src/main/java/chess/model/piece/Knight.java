@@ -14,6 +14,11 @@ public class Knight extends Piece {
         super(team, new LimitedMoveStrategy(Direction.knight(), Distance.oneStep()));
     }
 
+    @Override
+    public PieceType getType() {
+        return PieceType.KNIGHT;
+    }
+
     @Override
     public double getScore() {
         return SCORE;
@@ -13,6 +13,11 @@ public class Pawn extends Piece {
         super(team, new PawnMoveStrategy(Direction.movePawn(team), Direction.attackPawn(team)));
     }
 
+    @Override
+    public PieceType getType() {
+        return PieceType.PAWN;
+    }
+
     @Override
     public double getScore() {
         return SCORE;
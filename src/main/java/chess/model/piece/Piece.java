@@ -3,11 +3,10 @@ package chess.model.piece;
 import chess.model.MoveType;
 import chess.model.Team;
 import chess.model.Turn;
-import chess.model.position.Direction;
 import chess.model.position.Position;
+import chess.model.position.Route;
 import chess.model.strategy.MoveStrategy;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -25,16 +24,7 @@ public abstract class Piece {
     }
 
     public final List<Position> getIntervalPosition(Position source, Position target) {
-        Direction direction = Direction.of(source, target);
-        List<Position> positions = new ArrayList<>();
-        Position next = source;
-
-        while (!next.equals(target)) {
-            next = next.getNext(direction);
-            positions.add(next);
-        }
-        positions.remove(target);
-        return positions;
+        return Route.of(source, target).getInterval();
     }
 
     public final boolean isSameTeam(Piece targetPiece) {
@@ -61,6 +51,8 @@ public abstract class Piece {
         return false;
     }
 
+    public abstract PieceType getType();
+
     public abstract double getScore();
 
     public abstract String getName();
@@ -8,6 +8,7 @@ import java.util.List;
 public class PieceFactory {
     private static final List<Piece> blackPieces = new ArrayList<>();
     private static final List<Piece> whitePieces = new ArrayList<>();
+    private static final Piece EMPTY = new Empty();
 
     static {
         blackPieces.add(new Pawn(Team.BLACK));
@@ -27,6 +28,20 @@ public class PieceFactory {
         whitePieces.add(new Empty());
     }
 
+    public static Piece of(Team team, PieceType type) {
+        if (team == Team.NONE || type == PieceType.EMPTY) {
+            return EMPTY;
+        }
+        List<Piece> pieces = blackPieces;
+        if (team == Team.WHITE) {
+            pieces = whitePieces;
+        }
+        return pieces.stream()
+                .filter(piece -> piece.getType() == type)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("해당하는 조건의 기물이 존재하지 않습니다."));
+    }
+
     public static Piece create(String name) {
         String[] array = name.split("-");
         String teamName = array[0];
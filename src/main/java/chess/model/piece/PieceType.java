@@ -0,0 +1,13 @@
+package chess.model.piece;
+
+public enum PieceType {
+    PAWN,
+    KNIGHT,
+    BISHOP,
+    ROOK,
+    QUEEN,
+    KING,
+    EMPTY;
+
+    public static final int PIECE_COUNT = 6;
+}
@@ -13,6 +13,11 @@ public class Queen extends Piece {
         super(team, new UnlimitedMoveStrategy(Direction.all()));
     }
 
+    @Override
+    public PieceType getType() {
+        return PieceType.QUEEN;
+    }
+
     @Override
     public double getScore() {
         return SCORE;
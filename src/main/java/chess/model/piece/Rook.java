@@ -13,6 +13,11 @@ public class Rook extends Piece {
         super(team, new UnlimitedMoveStrategy(Direction.linear()));
     }
 
+    @Override
+    public PieceType getType() {
+        return PieceType.ROOK;
+    }
+
     @Override
     public double getScore() {
         return SCORE;
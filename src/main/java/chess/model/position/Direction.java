@@ -2,7 +2,6 @@ package chess.model.position;
 
 import chess.model.Team;
 
-import java.util.Arrays;
 import java.util.List;
 
 public enum Direction {
@@ -33,14 +32,7 @@ public enum Direction {
     }
 
     public static Direction of(Position source, Position target) {
-        int fileGap = target.getFileGapDividedByGcd(source);
-        int rankGap = target.getRankGapDividedByGcd(source);
-
-        return Arrays.stream(values())
-                .filter(direction -> direction.fileGap == fileGap)
-                .filter(direction -> direction.rankGap == rankGap)
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 방향입니다."));
+        return Route.of(source, target).getDirection();
     }
 
     public static List<Direction> linear() {
@@ -6,6 +6,8 @@ import java.util.Objects;
 public class Distance {
     private static final Distance DISTANCE_ONE = new Distance(1);
     private static final Distance DISTANCE_TWO = new Distance(2);
+    private static final List<Distance> ONE_STEP = List.of(DISTANCE_ONE);
+    private static final List<Distance> ONE_AND_TWO_STEP = List.of(DISTANCE_ONE, DISTANCE_TWO);
     private final int value;
 
     public Distance(int value) {
@@ -13,27 +15,19 @@ public class Distance {
     }
 
     public static Distance of(Position source, Position target, Direction direction) {
-        if (Direction.diagonal().contains(direction)) {
-            return new Distance(source.getFileGap(target));
+        Route route = Route.of(source, target);
+        if (route.getDirection() != direction) {
+            throw new IllegalArgumentException("거리를 구할 수 없습니다.");
         }
-        if (Direction.vertical().contains(direction)) {
-            return new Distance(source.getRankGap(target));
-        }
-        if (Direction.horizontal().contains(direction)) {
-            return new Distance(source.getFileGap(target));
-        }
-        if (Direction.knight().contains(direction)) {
-            return new Distance(Math.min(source.getFileGap(target), source.getRankGap(target)));
-        }
-        throw new IllegalArgumentException("거리를 구할 수 없습니다.");
+        return route.getDistance();
     }
 
     public static List<Distance> oneStep() {
-        return List.of(DISTANCE_ONE);
+        return ONE_STEP;
     }
 
     public static List<Distance> oneAndTwoStep() {
-        return List.of(DISTANCE_ONE, DISTANCE_TWO);
+        return ONE_AND_TWO_STEP;
     }
 
     @Override
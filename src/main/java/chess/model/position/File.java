@@ -14,6 +14,8 @@ public enum File {
     G(7, "g"),
     H(8, "h");
 
+    private static final File[] VALUES = values();
+
     private final int index;
     private final String value;
 
@@ -23,10 +25,10 @@ public enum File {
     }
 
     public static File valueOf(int index) {
-        return Arrays.stream(File.values())
-                .filter(file -> file.index == index)
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 값입니다 "));
+        if (index < A.index || index > H.index) {
+            throw new IllegalArgumentException("존재하지 않는 값입니다 ");
+        }
+        return VALUES[index - A.index];
     }
 
     public static File of(String value) {
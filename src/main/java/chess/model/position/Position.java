@@ -1,41 +1,93 @@
 package chess.model.position;
 
-import java.util.Arrays;
-import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 public class Position implements Comparable<Position> {
-    private static final Map<String, Position> CACHE_POSITION;
+    private static final int LINE_COUNT = 8;
+    private static final int SQUARE_COUNT = LINE_COUNT * LINE_COUNT;
+    private static final int DIRECTION_COUNT = Direction.values().length;
+    private static final Position[] POSITIONS = new Position[SQUARE_COUNT];
+    private static final Position[][] NEIGHBOURS = new Position[SQUARE_COUNT][DIRECTION_COUNT];
+    private static final List<List<List<Position>>> RAYS = new ArrayList<>(SQUARE_COUNT);
+    private static final List<Position> VALUES;
 
     static {
-        CACHE_POSITION = Arrays.stream(File.values())
-                .flatMap(file -> Arrays.stream(Rank.values())
-                        .map(rank -> new Position(file, rank)))
-                .collect(Collectors.toMap(Position::getKey, p -> p));
+        for (File file : File.values()) {
+            for (Rank rank : Rank.values()) {
+                Position position = new Position(file, rank);
+                POSITIONS[position.ordinal] = position;
+            }
+        }
+        for (Position position : POSITIONS) {
+            for (Direction direction : Direction.values()) {
+                NEIGHBOURS[position.ordinal][direction.ordinal()] = position.findNeighbour(direction);
+            }
+        }
+        for (Position position : POSITIONS) {
+            RAYS.add(position.createRays());
+        }
+        VALUES = List.of(POSITIONS);
     }
 
     private final Rank rank;
     private final File file;
+    private final int ordinal;
+    private final String value;
 
     private Position(File file, Rank rank) {
         this.file = file;
         this.rank = rank;
+        this.ordinal = rank.minus(Rank.ONE) * LINE_COUNT + file.minus(File.A);
+        this.value = file.getValue() + rank.getValue();
     }
 
     public static Position from(String position) {
-        if (CACHE_POSITION.containsKey(position)) {
-            return CACHE_POSITION.get(position);
+        if (position == null || position.length() != 2) {
+            throw new IllegalArgumentException("유효하지 않은 위치입니다.");
+        }
+        int file = position.charAt(0) - 'a';
+        int rank = position.charAt(1) - '1';
+        if (file < 0 || file >= LINE_COUNT || rank < 0 || rank >= LINE_COUNT) {
+            throw new IllegalArgumentException("유효하지 않은 위치입니다.");
         }
-        throw new IllegalArgumentException("유효하지 않은 위치입니다.");
+        return POSITIONS[rank * LINE_COUNT + file];
     }
 
     public static Position of(File file, Rank rank) {
-        return CACHE_POSITION.get(getKey(file, rank));
+        return POSITIONS[rank.minus(Rank.ONE) * LINE_COUNT + file.minus(File.A)];
     }
 
-    private static String getKey(File file, Rank rank) {
-        return file.getValue() + rank.getValue();
+    public static Position fromOrdinal(int ordinal) {
+        return POSITIONS[ordinal];
+    }
+
+    public static List<Position> values() {
+        return VALUES;
+    }
+
+    private Position findNeighbour(Direction direction) {
+        int nextFile = file.minus(File.A) + direction.getFileGap();
+        int nextRank = rank.minus(Rank.ONE) + direction.getRankGap();
+        if (nextFile < 0 || nextFile >= LINE_COUNT || nextRank < 0 || nextRank >= LINE_COUNT) {
+            return null;
+        }
+        return POSITIONS[nextRank * LINE_COUNT + nextFile];
+    }
+
+    private List<List<Position>> createRays() {
+        List<List<Position>> rays = new ArrayList<>(DIRECTION_COUNT);
+        for (Direction direction : Direction.values()) {
+            List<Position> ray = new ArrayList<>();
+            Position next = NEIGHBOURS[ordinal][direction.ordinal()];
+            while (next != null) {
+                ray.add(next);
+                next = NEIGHBOURS[next.ordinal][direction.ordinal()];
+            }
+            rays.add(Collections.unmodifiableList(ray));
+        }
+        return rays;
     }
 
     public int getRankGap(Position other) {
@@ -47,10 +99,19 @@ public class Position implements Comparable<Position> {
     }
 
     public Position getNext(Direction direction) {
-        File nextFile = file.getNext(direction.getFileGap());
-        Rank nextRank = rank.getNext(direction.getRankGap());
+        Position next = NEIGHBOURS[ordinal][direction.ordinal()];
+        if (next == null) {
+            throw new IllegalArgumentException("존재하지 않는 값입니다 ");
+        }
+        return next;
+    }
+
+    public boolean hasNext(Direction direction) {
+        return NEIGHBOURS[ordinal][direction.ordinal()] != null;
+    }
 
-        return Position.of(nextFile, nextRank);
+    public List<Position> getRay(Direction direction) {
+        return RAYS.get(ordinal).get(direction.ordinal());
     }
 
     public boolean isLastFile() {
@@ -63,31 +124,7 @@ public class Position implements Comparable<Position> {
     }
 
     public String getPosition() {
-        return file.getValue() + rank.getValue();
-    }
-
-    public int getFileGapDividedByGcd(Position other) {
-        return file.minus(other.file) / getGcd(other);
-    }
-
-    public int getRankGapDividedByGcd(Position other) {
-        return rank.minus(other.rank) / getGcd(other);
-    }
-
-    private int getGcd(Position other) {
-        int rankGap = rank.absMinus(other.rank);
-        int fileGap = file.absMinus(other.file);
-        if (rankGap == 0) {
-            return fileGap;
-        }
-        if (fileGap == 0) {
-            return rankGap;
-        }
-        return Math.min(fileGap, rankGap);
-    }
-
-    private String getKey() {
-        return file.getValue() + rank.getValue();
+        return value;
     }
 
     @Override
@@ -122,12 +159,12 @@ public class Position implements Comparable<Position> {
             return false;
         }
         Position position = (Position) o;
-        return rank == position.rank && file == position.file;
+        return ordinal == position.ordinal;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(rank, file);
+        return ordinal;
     }
 
     @Override
@@ -138,6 +175,10 @@ public class Position implements Comparable<Position> {
                 '}';
     }
 
+    public int getOrdinal() {
+        return ordinal;
+    }
+
     public Rank getRank() {
         return rank;
     }
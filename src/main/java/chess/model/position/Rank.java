@@ -13,6 +13,8 @@ public enum Rank {
     TWO(2, "2"),
     ONE(1, "1");
 
+    private static final Rank[] VALUES = values();
+
     private final int index;
     private final String value;
 
@@ -22,10 +24,10 @@ public enum Rank {
     }
 
     public static Rank indexOf(int index) {
-        return Arrays.stream(Rank.values())
-                .filter(rank -> rank.index == index)
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 값입니다 "));
+        if (index < ONE.index || index > EIGHT.index) {
+            throw new IllegalArgumentException("존재하지 않는 값입니다 ");
+        }
+        return VALUES[EIGHT.index - index];
     }
 
     public static Rank of(String value) {
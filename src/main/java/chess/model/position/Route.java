@@ -0,0 +1,81 @@
+package chess.model.position;
+
+import java.util.List;
+
+public class Route {
+    private static final int SQUARE_COUNT = 64;
+    private static final int LINE_COUNT = 8;
+    private static final Distance[] DISTANCES = new Distance[LINE_COUNT];
+    private static final Route[][] ROUTES = new Route[SQUARE_COUNT][SQUARE_COUNT];
+
+    static {
+        for (int step = 0; step < LINE_COUNT; step++) {
+            DISTANCES[step] = new Distance(step);
+        }
+        for (int source = 0; source < SQUARE_COUNT; source++) {
+            for (int target = 0; target < SQUARE_COUNT; target++) {
+                ROUTES[source][target] = create(Position.fromOrdinal(source), Position.fromOrdinal(target));
+            }
+        }
+    }
+
+    private final Direction direction;
+    private final Distance distance;
+    private final List<Position> interval;
+
+    private Route(Direction direction, Distance distance, List<Position> interval) {
+        this.direction = direction;
+        this.distance = distance;
+        this.interval = interval;
+    }
+
+    public static Route of(Position source, Position target) {
+        Route route = ROUTES[source.getOrdinal()][target.getOrdinal()];
+        if (route == null) {
+            throw new IllegalArgumentException("존재하지 않는 방향입니다.");
+        }
+        return route;
+    }
+
+    public static boolean exists(Position source, Position target) {
+        return ROUTES[source.getOrdinal()][target.getOrdinal()] != null;
+    }
+
+    private static Route create(Position source, Position target) {
+        int fileGap = target.getFile().minus(source.getFile());
+        int rankGap = target.getRank().minus(source.getRank());
+
+        for (Direction direction : Direction.values()) {
+            int step = countStep(direction, fileGap, rankGap);
+            if (step > 0) {
+                return new Route(direction, DISTANCES[step], createInterval(source, direction, step));
+            }
+        }
+        return null;
+    }
+
+    private static int countStep(Direction direction, int fileGap, int rankGap) {
+        int step = Math.max(Math.abs(fileGap), Math.abs(rankGap))
+                / Math.max(Math.abs(direction.getFileGap()), Math.abs(direction.getRankGap()));
+        if (step > 0 && direction.getFileGap() * step == fileGap && direction.getRankGap() * step == rankGap) {
+            return step;
+        }
+        return 0;
+    }
+
+    private static List<Position> createInterval(Position source, Direction direction, int step) {
+        return source.getRay(direction).subList(0, step - 1);
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    public Distance getDistance() {
+        return distance;
+    }
+
+    public List<Position> getInterval() {
+        return interval;
+    }
+}
@@ -4,6 +4,7 @@ import chess.model.MoveType;
 import chess.model.position.Direction;
 import chess.model.position.Distance;
 import chess.model.position.Position;
+import chess.model.position.Route;
 
 import java.util.List;
 
@@ -18,8 +19,7 @@ public class LimitedMoveStrategy implements MoveStrategy {
 
     @Override
     public boolean movable(Position source, Position target, MoveType moveType) {
-        Direction direction = Direction.of(source, target);
-        Distance distance = Distance.of(source, target, direction);
-        return directions.contains(direction) && distances.contains(distance);
+        Route route = Route.of(source, target);
+        return directions.contains(route.getDirection()) && distances.contains(route.getDistance());
     }
 }
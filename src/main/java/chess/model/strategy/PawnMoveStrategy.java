@@ -4,6 +4,7 @@ import chess.model.MoveType;
 import chess.model.position.Direction;
 import chess.model.position.Distance;
 import chess.model.position.Position;
+import chess.model.position.Route;
 
 import java.util.List;
 
@@ -18,8 +19,9 @@ public class PawnMoveStrategy implements MoveStrategy {
 
     @Override
     public boolean movable(Position source, Position target, MoveType moveType) {
-        Direction direction = Direction.of(source, target);
-        Distance distance = Distance.of(source, target, direction);
+        Route route = Route.of(source, target);
+        Direction direction = route.getDirection();
+        Distance distance = route.getDistance();
 
         if (moveType.equals(MoveType.ATTACK)) {
             return attackDirections.contains(direction) && Distance.oneStep().contains(distance);
@@ -3,6 +3,7 @@ package chess.model.strategy;
 import chess.model.MoveType;
 import chess.model.position.Direction;
 import chess.model.position.Position;
+import chess.model.position.Route;
 
 import java.util.List;
 
@@ -16,7 +17,6 @@ public class UnlimitedMoveStrategy implements MoveStrategy {
 
     @Override
     public boolean movable(Position source, Position target, MoveType moveType) {
-        Direction direction = Direction.of(source, target);
-        return directions.contains(direction);
+        return directions.contains(Route.of(source, target).getDirection());
     }
 }
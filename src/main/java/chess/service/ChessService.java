@@ -1,89 +1,287 @@
 package chess.service;
 
+import chess.engine.ParallelSearcher;
+import chess.engine.SearchLimit;
+import chess.engine.SearchResult;
 import chess.model.ChessGame;
 import chess.model.GameResult;
+import chess.model.MoveResult;
+import chess.model.Movement;
 import chess.model.Turn;
 import chess.model.board.Board;
+import chess.model.board.BoardCodec;
 import chess.model.board.BoardFactory;
-import chess.model.dao.PieceDao;
-import chess.model.dao.TurnDao;
+import chess.model.dao.BoardDao;
+import chess.model.dao.GameDao;
+import chess.model.dao.MoveDao;
 import chess.model.dto.MoveDto;
+import chess.model.dto.MoveRecordDto;
+import chess.model.dto.SnapshotDto;
 import chess.model.dto.WebBoardDto;
-import chess.model.piece.Piece;
 import chess.model.position.Position;
 
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 public class ChessService {
-    private final PieceDao pieceDao;
-    private final TurnDao turnDao;
-    private ChessGame chessGame;
+    private static final long COMPUTER_TIME_MILLIS = 1000;
+    private static final long COMPUTER_WAIT_MILLIS = 200;
+    private static final int SNAPSHOT_INTERVAL = 16;
+    private static final long SESSION_IDLE_MILLIS = TimeUnit.MINUTES.toMillis(30);
+    private static final long SWEEP_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final GameDao gameDao;
+    private final BoardDao boardDao;
+    private final MoveDao moveDao;
+    private final ParallelSearcher searcher;
+    private final Map<Integer, CompletableFuture<GameSession>> sessions = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService sweeper;
 
     public ChessService() {
-        this.pieceDao = new PieceDao();
-        this.turnDao = new TurnDao();
+        this.gameDao = new GameDao();
+        this.boardDao = new BoardDao();
+        this.moveDao = new MoveDao();
+        this.searcher = new ParallelSearcher(Runtime.getRuntime().availableProcessors());
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-session-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleAtFixedRate(() -> evictIdleSessions(TimeUnit.MILLISECONDS.toNanos(SESSION_IDLE_MILLIS)),
+                SWEEP_INTERVAL_MILLIS, SWEEP_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public int createGame() {
+        return createGame(BoardFactory.create(), Turn.init());
+    }
+
+    public int createGame(String fen) {
+        return createGame(BoardFactory.create(fen), BoardFactory.createTurn(fen));
+    }
+
+    private int createGame(Board board, Turn turn) {
+        int gameId = gameDao.create(board, turn);
+        sessions.put(gameId, CompletableFuture.completedFuture(new GameSession(gameId, new ChessGame(board), turn)));
+        return gameId;
+    }
+
+    public WebBoardDto start(int gameId) {
+        return getBoard(gameId);
+    }
+
+    private GameSession session(int gameId) {
+        while (true) {
+            GameSession session = join(sessionFuture(gameId));
+            if (session.touch()) {
+                return session;
+            }
+            unregister(gameId, session);
+        }
     }
 
-    public WebBoardDto start() {
-        Board board = initBoard();
-        initTurn();
-        chessGame = new ChessGame(board);
+    private CompletableFuture<GameSession> sessionFuture(int gameId) {
+        CompletableFuture<GameSession> session = sessions.get(gameId);
+        if (session != null) {
+            return session;
+        }
+        CompletableFuture<GameSession> loading = new CompletableFuture<>();
+        session = sessions.putIfAbsent(gameId, loading);
+        if (session != null) {
+            return session;
+        }
+        load(gameId, loading);
+        return loading;
+    }
+
+    private GameSession join(CompletableFuture<GameSession> session) {
+        try {
+            return session.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private void unregister(int gameId, GameSession session) {
+        sessions.computeIfPresent(gameId, (id, entry) -> entry.getNow(null) == session ? null : entry);
+    }
 
-        return WebBoardDto.from(board);
+    void evictIdleSessions(long idleNanos) {
+        for (Map.Entry<Integer, CompletableFuture<GameSession>> entry : sessions.entrySet()) {
+            CompletableFuture<GameSession> future = entry.getValue();
+            if (!future.isDone() || future.isCompletedExceptionally()) {
+                continue;
+            }
+            GameSession session = future.join();
+            if (session.closeIfIdle(idleNanos)) {
+                unregister(entry.getKey(), session);
+            }
+        }
     }
 
-    private Board initBoard() {
-        Map<Position, Piece> board = pieceDao.findAll();
+    int getSessionCount() {
+        return sessions.size();
+    }
 
-        if (board.size() == 0) {
-            pieceDao.init(BoardFactory.create());
+    private void load(int gameId, CompletableFuture<GameSession> loading) {
+        try {
+            loading.complete(load(gameId));
+        } catch (RuntimeException e) {
+            sessions.remove(gameId, loading);
+            loading.completeExceptionally(e);
         }
+    }
 
-        return new Board(pieceDao.findAll());
+    private GameSession load(int gameId) {
+        if (!gameDao.exists(gameId)) {
+            throw new IllegalArgumentException("존재하지 않는 게임입니다.");
+        }
+        SnapshotDto snapshot = boardDao.findOne(gameId)
+                .orElseThrow(() -> new IllegalArgumentException("저장된 체스판이 없습니다."));
+        byte[] state = snapshot.getState();
+        return replay(gameId, BoardCodec.decode(state), BoardCodec.decodeTurn(state), snapshot.getPly());
     }
 
-    private void initTurn() {
-        String turn = turnDao.findOne();
+    private GameSession replay(int gameId, Board snapshot, Turn turn, int ply) {
+        ChessGame chessGame = new ChessGame(snapshot);
+        for (MoveRecordDto record : moveDao.findAfter(gameId, ply)) {
+            if (record.getPly() != ply + 1) {
+                throw new IllegalArgumentException("기보에 빠진 수가 있습니다.");
+            }
+            Movement movement = record.getMovement();
+            MoveResult result = chessGame.tryMove(movement.getSource(), movement.getTarget(), turn);
+            if (!result.isOk()) {
+                throw new IllegalArgumentException("기보의 " + record.getPly() + "번째 수를 둘 수 없습니다.");
+            }
+            turn = nextTurn(chessGame, turn);
+            ply++;
+        }
+        return new GameSession(gameId, chessGame, turn, ply);
+    }
 
-        if (turn.equals("")) {
-            turnDao.init();
+    private Turn nextTurn(ChessGame chessGame, Turn turn) {
+        if (chessGame.isKingDead()) {
+            return Turn.from(turn.finish());
         }
+        return turn.change();
     }
 
-    public WebBoardDto move(MoveDto moveDto) {
+    public MoveResult move(int gameId, MoveDto moveDto) {
         Position source = Position.from(moveDto.getSource());
         Position target = Position.from(moveDto.getTarget());
-        Turn turn = Turn.from(turnDao.findOne());
+        GameSession session = session(gameId);
+        return session.execute(() -> move(session, source, target));
+    }
+
+    public MoveResult computerMove(int gameId) {
+        GameSession session = session(gameId);
+        Snapshot snapshot = session.execute(() -> new Snapshot(session));
+        Optional<SearchResult> searchResult = searcher.trySearch(snapshot.board, snapshot.turn,
+                SearchLimit.ofTime(COMPUTER_TIME_MILLIS), COMPUTER_WAIT_MILLIS);
+        if (!searchResult.isPresent()) {
+            return MoveResult.BUSY;
+        }
+        SearchResult result = searchResult.get();
+        if (!result.hasBestMove()) {
+            return MoveResult.UNREACHABLE;
+        }
+        Movement bestMove = result.getBestMove();
+        return session.execute(() -> {
+            if (session.getPly() != snapshot.ply) {
+                return MoveResult.OUTDATED;
+            }
+            return move(session, bestMove.getSource(), bestMove.getTarget());
+        });
+    }
+
+    private MoveResult move(GameSession session, Position source, Position target) {
+        int gameId = session.getGameId();
+        ChessGame chessGame = session.getChessGame();
+        Turn turn = session.getTurn();
+        String captured = chessGame.getBoard().get(target).getPieceName();
+        MoveResult result = chessGame.tryMove(source, target, turn);
+        if (!result.isOk()) {
+            return result;
+        }
+        Turn nextTurn = nextTurn(chessGame, turn);
+        int ply = session.getPly() + 1;
         try {
-            chessGame.move(source, target, turn);
-            String originalSourcePiece = pieceDao.findByPosition(moveDto.getSource());
-            pieceDao.updateByPosition(moveDto.getTarget(), originalSourcePiece);
-            pieceDao.updateByPosition(moveDto.getSource(), "none-.");
-        } catch (Exception e) {
-            throw new IllegalArgumentException(e.getMessage());
+            append(gameId, ply, source, target, captured, chessGame.getBoard(), nextTurn);
+        } catch (IllegalArgumentException e) {
+            chessGame.undo();
+            throw e;
         }
-        turnDao.update(turn.change().getThisTurn());
-        if (chessGame.isKingDead()) {
-            turnDao.update(turn.finish());
+        session.setTurn(nextTurn);
+        session.setPly(ply);
+        return result;
+    }
+
+    private void append(int gameId, int ply, Position source, Position target, String captured, Board board,
+                        Turn nextTurn) {
+        if (ply % SNAPSHOT_INTERVAL == 0) {
+            moveDao.append(gameId, ply, source, target, captured, board, nextTurn);
+            return;
         }
+        moveDao.append(gameId, ply, source, target, captured);
+    }
+
+    public WebBoardDto getBoard(int gameId) {
+        GameSession session = session(gameId);
+        return session.execute(() -> WebBoardDto.from(session.getChessGame().getBoard()));
+    }
 
-        return WebBoardDto.from(chessGame.getBoard());
+    public String getFen(int gameId) {
+        GameSession session = session(gameId);
+        return session.execute(() -> session.getChessGame().getBoard().toFen(session.getTurn()));
     }
 
-    public String getTurn() {
-        return turnDao.findOne();
+    public String getTurn(int gameId) {
+        return session(gameId).getTurn().getThisTurn();
     }
 
-    public boolean isKingDead() {
-        return chessGame.isKingDead();
+    public boolean isKingDead(int gameId) {
+        GameSession session = session(gameId);
+        return session.execute(() -> session.getChessGame().isKingDead());
     }
 
-    public GameResult getResult() {
-        return chessGame.getWinningResult();
+    public GameResult getResult(int gameId) {
+        GameSession session = session(gameId);
+        return session.execute(() -> session.getChessGame().getWinningResult());
     }
 
-    public void exitGame() {
-        pieceDao.deleteAll();
-        turnDao.deleteAll();
+    public void exitGame(int gameId) {
+        GameSession session = session(gameId);
+        session.execute(() -> {
+            deleteGame(gameId);
+            session.close();
+            return null;
+        });
+        unregister(gameId, session);
+    }
+
+    private void deleteGame(int gameId) {
+        moveDao.deleteAll(gameId);
+        boardDao.deleteAll(gameId);
+        gameDao.delete(gameId);
+    }
+
+    private static class Snapshot {
+        private final Board board;
+        private final Turn turn;
+        private final int ply;
+
+        private Snapshot(GameSession session) {
+            this.board = session.getChessGame().getBoard().copy();
+            this.turn = session.getTurn();
+            this.ply = session.getPly();
+        }
     }
 }
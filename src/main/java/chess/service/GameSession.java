@@ -0,0 +1,91 @@
+package chess.service;
+
+import chess.model.ChessGame;
+import chess.model.Turn;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+public class GameSession {
+    private static final long CLOSED = Long.MIN_VALUE;
+
+    private final int gameId;
+    private final ChessGame chessGame;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Turn turn;
+    private volatile int ply;
+    private final AtomicLong lastAccess = new AtomicLong(System.nanoTime());
+
+    public GameSession(int gameId, ChessGame chessGame, Turn turn) {
+        this(gameId, chessGame, turn, 0);
+    }
+
+    public GameSession(int gameId, ChessGame chessGame, Turn turn, int ply) {
+        this.gameId = gameId;
+        this.chessGame = chessGame;
+        this.turn = turn;
+        this.ply = ply;
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        lock.lock();
+        try {
+            if (isClosed()) {
+                throw new IllegalArgumentException("존재하지 않는 게임입니다.");
+            }
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean touch() {
+        long accessed = lastAccess.get();
+        while (accessed != CLOSED) {
+            if (lastAccess.compareAndSet(accessed, System.nanoTime())) {
+                return true;
+            }
+            accessed = lastAccess.get();
+        }
+        return false;
+    }
+
+    public boolean closeIfIdle(long idleNanos) {
+        long accessed = lastAccess.get();
+        return accessed != CLOSED && System.nanoTime() - accessed >= idleNanos
+                && lastAccess.compareAndSet(accessed, CLOSED);
+    }
+
+    public void close() {
+        lastAccess.set(CLOSED);
+    }
+
+    public boolean isClosed() {
+        return lastAccess.get() == CLOSED;
+    }
+
+    public int getGameId() {
+        return gameId;
+    }
+
+    public ChessGame getChessGame() {
+        return chessGame;
+    }
+
+    public Turn getTurn() {
+        return turn;
+    }
+
+    public void setTurn(Turn turn) {
+        this.turn = turn;
+    }
+
+    public int getPly() {
+        return ply;
+    }
+
+    public void setPly(int ply) {
+        this.ply = ply;
+    }
+}
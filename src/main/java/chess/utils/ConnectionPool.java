@@ -0,0 +1,325 @@
+package chess.utils;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+public class ConnectionPool implements DataSource, AutoCloseable {
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+    private static final long VALIDATION_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final long WAIT_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final int DEFAULT_STATEMENT_CACHE_SIZE = 64;
+
+    private final Supplier<Connection> connectionFactory;
+    private final int minSize;
+    private final int maxSize;
+    private final long maxWaitNanos;
+    private final long leakThresholdNanos;
+    private final int statementCacheSize;
+    private final boolean leakTrace;
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final Set<PooledConnection> active = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitedNanos = new AtomicLong();
+    private final AtomicLong leakCount = new AtomicLong();
+    private final AtomicLong statementCacheHits = new AtomicLong();
+    private final AtomicLong statementCacheMisses = new AtomicLong();
+    private volatile String lastLeakTrace;
+    private final ScheduledExecutorService leakDetector;
+
+    public ConnectionPool(Supplier<Connection> connectionFactory, int minSize, int maxSize,
+                          long maxWaitMillis, long leakThresholdMillis) {
+        this(connectionFactory, minSize, maxSize, maxWaitMillis, leakThresholdMillis, DEFAULT_STATEMENT_CACHE_SIZE);
+    }
+
+    public ConnectionPool(Supplier<Connection> connectionFactory, int minSize, int maxSize,
+                          long maxWaitMillis, long leakThresholdMillis, int statementCacheSize) {
+        this(connectionFactory, minSize, maxSize, maxWaitMillis, leakThresholdMillis, statementCacheSize, false);
+    }
+
+    public ConnectionPool(Supplier<Connection> connectionFactory, int minSize, int maxSize,
+                          long maxWaitMillis, long leakThresholdMillis, int statementCacheSize, boolean leakTrace) {
+        if (minSize < 0 || maxSize < 1 || minSize > maxSize || statementCacheSize < 0) {
+            throw new IllegalArgumentException("커넥션 풀의 크기가 올바르지 않습니다.");
+        }
+        this.connectionFactory = connectionFactory;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.leakThresholdNanos = TimeUnit.MILLISECONDS.toNanos(leakThresholdMillis);
+        this.statementCacheSize = statementCacheSize;
+        this.leakTrace = leakTrace && leakThresholdMillis > 0;
+        this.leakDetector = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "connection-leak-detector");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (leakThresholdMillis > 0) {
+            leakDetector.scheduleAtFixedRate(this::detectLeaks, leakThresholdMillis, leakThresholdMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+        fill();
+    }
+
+    private void fill() {
+        while (total.get() < minSize) {
+            PooledConnection connection = create();
+            if (connection == null) {
+                return;
+            }
+            idle.offerLast(connection);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        PooledConnection connection = borrow(start);
+        long waited = System.nanoTime() - start;
+        borrowCount.incrementAndGet();
+        totalWaitNanos.addAndGet(waited);
+        maxWaitedNanos.accumulateAndGet(waited, Math::max);
+        Connection proxy = connection.lease(leakTrace);
+        active.add(connection);
+        return proxy;
+    }
+
+    private PooledConnection borrow(long start) throws SQLException {
+        while (true) {
+            PooledConnection connection = idle.pollFirst();
+            if (connection == null) {
+                connection = createWithinLimit();
+            }
+            if (connection == null) {
+                connection = await(start);
+            }
+            if (connection == null) {
+                continue;
+            }
+            if (isValid(connection)) {
+                return connection;
+            }
+            discard(connection);
+        }
+    }
+
+    private PooledConnection createWithinLimit() throws SQLException {
+        int size = total.get();
+        while (size < maxSize) {
+            if (total.compareAndSet(size, size + 1)) {
+                Connection connection = connectionFactory.get();
+                if (connection == null) {
+                    total.decrementAndGet();
+                    throw new SQLException("커넥션 연결에 실패하였습니다.");
+                }
+                return new PooledConnection(connection);
+            }
+            size = total.get();
+        }
+        return null;
+    }
+
+    private PooledConnection create() {
+        try {
+            return createWithinLimit();
+        } catch (SQLException throwables) {
+            throwables.printStackTrace();
+            return null;
+        }
+    }
+
+    private PooledConnection await(long start) throws SQLException {
+        long remaining = maxWaitNanos - (System.nanoTime() - start);
+        if (remaining <= 0) {
+            throw new SQLException("커넥션을 기다리는 시간이 초과되었습니다.");
+        }
+        try {
+            return idle.pollFirst(Math.min(remaining, WAIT_SLICE_NANOS), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("커넥션을 기다리다 중단되었습니다.");
+        }
+    }
+
+    private boolean isValid(PooledConnection connection) {
+        if (System.nanoTime() - connection.releasedAt < VALIDATION_INTERVAL_NANOS) {
+            return true;
+        }
+        try {
+            return connection.raw.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException throwables) {
+            return false;
+        }
+    }
+
+    private void release(PooledConnection connection) {
+        active.remove(connection);
+        try {
+            if (!connection.raw.getAutoCommit()) {
+                connection.raw.rollback();
+                connection.raw.setAutoCommit(true);
+            }
+            connection.releasedAt = System.nanoTime();
+            idle.offerFirst(connection);
+        } catch (SQLException throwables) {
+            discard(connection);
+        }
+    }
+
+    private void discard(PooledConnection connection) {
+        total.decrementAndGet();
+        connection.statements.closeAll();
+        try {
+            connection.raw.close();
+        } catch (SQLException throwables) {
+            throwables.printStackTrace();
+        }
+    }
+
+    private void detectLeaks() {
+        long now = System.nanoTime();
+        for (PooledConnection connection : active) {
+            if (!connection.reported && now - connection.borrowedAt > leakThresholdNanos) {
+                connection.reported = true;
+                leakCount.incrementAndGet();
+                Throwable borrowTrace = connection.borrowTrace;
+                if (borrowTrace != null) {
+                    lastLeakTrace = traceOf(borrowTrace);
+                }
+            }
+        }
+    }
+
+    private String traceOf(Throwable trace) {
+        StringWriter writer = new StringWriter();
+        trace.printStackTrace(new PrintWriter(writer));
+        return writer.toString();
+    }
+
+    public PoolMetrics getMetrics() {
+        return new PoolMetrics(active.size(), idle.size(), total.get(), borrowCount.get(), totalWaitNanos.get(),
+                maxWaitedNanos.get(), leakCount.get(), lastLeakTrace, statementCacheHits.get(),
+                statementCacheMisses.get());
+    }
+
+    @Override
+    public void close() {
+        leakDetector.shutdownNow();
+        PooledConnection connection;
+        while ((connection = idle.pollFirst()) != null) {
+            discard(connection);
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("풀에 설정된 계정만 사용할 수 있습니다.");
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return null;
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return 0;
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("지원하지 않는 타입입니다.");
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    private boolean isCacheable(Method method, Object[] args) {
+        return statementCacheSize > 0 && "prepareStatement".equals(method.getName()) && args.length == 1;
+    }
+
+    private class PooledConnection {
+        private final Connection raw;
+        private final StatementCache statements;
+        private volatile long borrowedAt;
+        private volatile long releasedAt;
+        private volatile Throwable borrowTrace;
+        private volatile boolean reported;
+
+        private PooledConnection(Connection raw) {
+            this.raw = raw;
+            this.statements = new StatementCache(raw, statementCacheSize, statementCacheHits, statementCacheMisses);
+            this.releasedAt = System.nanoTime();
+        }
+
+        private Connection lease(boolean traceLeaks) {
+            borrowedAt = System.nanoTime();
+            borrowTrace = traceLeaks ? new Throwable("커넥션을 빌린 위치") : null;
+            reported = false;
+            AtomicBoolean closed = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> invoke(closed, method, args));
+        }
+
+        private Object invoke(AtomicBoolean closed, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if ("close".equals(name)) {
+                if (closed.compareAndSet(false, true)) {
+                    release(this);
+                }
+                return null;
+            }
+            if ("isClosed".equals(name)) {
+                return closed.get() || raw.isClosed();
+            }
+            if (closed.get()) {
+                throw new SQLException("이미 반납된 커넥션입니다.");
+            }
+            if (isCacheable(method, args)) {
+                return statements.prepare((String) args[0]);
+            }
+            try {
+                return method.invoke(raw, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
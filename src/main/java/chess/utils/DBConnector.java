@@ -4,9 +4,15 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 
 public class DBConnector {
-    private static final String URL = "jdbc:mysql://localhost:3306/chess";
+    private static final String URL = "jdbc:mysql://localhost:3306/chess?useServerPrepStmts=true&cachePrepStmts=true";
     private static final String USER = "user";
     private static final String PASSWORD = "password";
+    private static final int POOL_MIN_SIZE = Integer.getInteger("chess.db.pool.min", 2);
+    private static final int POOL_MAX_SIZE = Integer.getInteger("chess.db.pool.max", 10);
+    private static final long POOL_MAX_WAIT_MILLIS = Long.getLong("chess.db.pool.maxWaitMillis", 3000L);
+    private static final long POOL_LEAK_THRESHOLD_MILLIS = Long.getLong("chess.db.pool.leakThresholdMillis", 10000L);
+    private static final int STATEMENT_CACHE_SIZE = Integer.getInteger("chess.db.pool.statementCacheSize", 64);
+    private static final boolean POOL_LEAK_TRACE = Boolean.getBoolean("chess.db.pool.leakTrace");
 
     public static Connection getConnection() {
         Connection conn = null;
@@ -18,4 +24,14 @@ public class DBConnector {
         }
         return conn;
     }
+
+    public static ConnectionPool getDataSource() {
+        return DataSourceHolder.DATA_SOURCE;
+    }
+
+    private static class DataSourceHolder {
+        private static final ConnectionPool DATA_SOURCE = new ConnectionPool(DBConnector::getConnection,
+                POOL_MIN_SIZE, POOL_MAX_SIZE, POOL_MAX_WAIT_MILLIS, POOL_LEAK_THRESHOLD_MILLIS, STATEMENT_CACHE_SIZE,
+                POOL_LEAK_TRACE);
+    }
 }
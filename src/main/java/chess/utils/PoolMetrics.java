@@ -0,0 +1,70 @@
+package chess.utils;
+
+public class PoolMetrics {
+    private static final double NANOS_PER_MILLI = 1_000_000D;
+
+    private final int active;
+    private final int idle;
+    private final int total;
+    private final long borrowCount;
+    private final double averageWaitMillis;
+    private final double maxWaitMillis;
+    private final long leakCount;
+    private final String lastLeakTrace;
+    private final long statementCacheHits;
+    private final long statementCacheMisses;
+
+    public PoolMetrics(int active, int idle, int total, long borrowCount, long totalWaitNanos, long maxWaitNanos,
+                       long leakCount, String lastLeakTrace, long statementCacheHits, long statementCacheMisses) {
+        this.active = active;
+        this.idle = idle;
+        this.total = total;
+        this.borrowCount = borrowCount;
+        this.averageWaitMillis = borrowCount == 0 ? 0 : totalWaitNanos / NANOS_PER_MILLI / borrowCount;
+        this.maxWaitMillis = maxWaitNanos / NANOS_PER_MILLI;
+        this.leakCount = leakCount;
+        this.lastLeakTrace = lastLeakTrace;
+        this.statementCacheHits = statementCacheHits;
+        this.statementCacheMisses = statementCacheMisses;
+    }
+
+    public int getActive() {
+        return active;
+    }
+
+    public int getIdle() {
+        return idle;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public long getBorrowCount() {
+        return borrowCount;
+    }
+
+    public double getAverageWaitMillis() {
+        return averageWaitMillis;
+    }
+
+    public double getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    public long getLeakCount() {
+        return leakCount;
+    }
+
+    public String getLastLeakTrace() {
+        return lastLeakTrace;
+    }
+
+    public long getStatementCacheHits() {
+        return statementCacheHits;
+    }
+
+    public long getStatementCacheMisses() {
+        return statementCacheMisses;
+    }
+}
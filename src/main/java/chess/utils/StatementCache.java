@@ -0,0 +1,94 @@
+package chess.utils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+class StatementCache {
+    private static final float LOAD_FACTOR = 0.75F;
+
+    private final Connection connection;
+    private final int capacity;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+    private final Map<String, PreparedStatement> statements;
+
+    StatementCache(Connection connection, int capacity, AtomicLong hits, AtomicLong misses) {
+        this.connection = connection;
+        this.capacity = capacity;
+        this.hits = hits;
+        this.misses = misses;
+        this.statements = new LinkedHashMap<>(capacity, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                if (size() > StatementCache.this.capacity) {
+                    close(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    PreparedStatement prepare(String query) throws SQLException {
+        PreparedStatement statement = statements.get(query);
+        if (statement == null || statement.isClosed()) {
+            misses.incrementAndGet();
+            statement = connection.prepareStatement(query);
+            statements.put(query, statement);
+        } else {
+            hits.incrementAndGet();
+        }
+        return lease(statement);
+    }
+
+    private PreparedStatement lease(PreparedStatement statement) {
+        AtomicBoolean closed = new AtomicBoolean();
+        return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> invoke(statement, closed, method, args));
+    }
+
+    private Object invoke(PreparedStatement statement, AtomicBoolean closed, Method method, Object[] args)
+            throws Throwable {
+        String name = method.getName();
+        if ("close".equals(name)) {
+            if (closed.compareAndSet(false, true)) {
+                statement.clearParameters();
+                statement.clearBatch();
+            }
+            return null;
+        }
+        if ("isClosed".equals(name)) {
+            return closed.get() || statement.isClosed();
+        }
+        if (closed.get()) {
+            throw new SQLException("이미 닫힌 구문입니다.");
+        }
+        try {
+            return method.invoke(statement, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    void closeAll() {
+        statements.values().forEach(this::close);
+        statements.clear();
+    }
+
+    private void close(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException throwables) {
+            throwables.printStackTrace();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package chess.view;
 
 import chess.model.GameResult;
+import chess.model.MoveResult;
 import chess.model.board.Board;
 import chess.model.position.Position;
 
@@ -31,6 +32,10 @@ public class OutputView {
         }
     }
 
+    public static void printMoveFailure(MoveResult result) {
+        System.out.println("[ERROR] " + result.getMessage());
+    }
+
     public static void printFinalResult(GameResult result) {
         System.out.println("우승팀은 " + result.getWinningTeam() + "입니다.");
         System.out.println("블랙 팀: " + result.getBlackScore());
@@ -3,6 +3,8 @@ const movePosition = {
     target: undefined
 };
 
+let gameId = undefined;
+
 function changeButton(value) {
     const button = document.getElementById("game-button")
     button.innerText = value;
@@ -24,11 +26,19 @@ const clickButton = () => {
 }
 
 const startGame = () => {
-    const response = fetch(`/start`, {
-        method: "GET",
+    const response = fetch(`/games`, {
+        method: "POST",
         headers: {"Content-Type": "application/json"}
     });
     response.then(data => data.json())
+        .then(body => {
+            gameId = body.gameId;
+            return fetch(`/games/${gameId}/start`, {
+                method: "GET",
+                headers: {"Content-Type": "application/json"}
+            });
+        })
+        .then(data => data.json())
         .then(body => {
             drawBoard(body);
             changeButton("end!");
@@ -60,7 +70,7 @@ function initBoard() {
 function drawTurnBox() {
     const turnBox = document.getElementById("turn-box")
 
-    const response = fetch(`/turn`, {
+    const response = fetch(`/games/${gameId}/turn`, {
         method: "GET",
         headers: {"Content-Type": "application/json"}
     });
@@ -93,14 +103,18 @@ const clickBLock = (e, block) => {
     }
 
     if (isMovePositionAllSelected()) {
-        const response = fetch(`/move`, {
+        const response = fetch(`/games/${gameId}/move`, {
             method: "POST",
             headers: {"Content-Type": "application/json"},
             body: JSON.stringify(movePosition),
         });
 
-        response.then(data => data.json())
-            .then(body => {
+        response.then(data => data.json().then(body => ({ok: data.ok, body})))
+            .then(({ok, body}) => {
+                if (!ok) {
+                    alert(body.message)
+                    return;
+                }
                 drawBoard(body)
                 drawTurnBox();
             })
@@ -120,7 +134,7 @@ function endGame() {
 }
 
 const kingDeadEndGame = () => {
-    const response = fetch(`/king/dead`, {
+    const response = fetch(`/games/${gameId}/king/dead`, {
         method: "GET",
         header: {"Content-Type": "application/json"}
     });
@@ -143,7 +157,7 @@ const removeEventListener = () => {
 }
 
 const getStatus = () => {
-    const response = fetch(`/status`, {
+    const response = fetch(`/games/${gameId}/status`, {
         method: "GET",
         header: {"Content-Type": "application/json"}
     });
@@ -202,7 +216,7 @@ const quit = () => {
     turnBox.innerText = "아직 게임 시작을 하지 않았습니다."
     initBoard();
 
-    fetch(`/exit`, {
+    fetch(`/games/${gameId}/exit`, {
         method: "POST",
         headers: {"Content-Type": "application/json"},
     }).catch(error => alert("게임 정보를 삭제하는데 문제가 발생했습니다."));
@@ -0,0 +1,41 @@
+package chess;
+
+import chess.model.Turn;
+import chess.model.board.Board;
+import chess.model.board.BoardCodec;
+import chess.model.board.BoardFactory;
+import chess.model.dao.BoardDao;
+import chess.model.dao.GameDao;
+import chess.model.dto.SnapshotDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoardDaoTest {
+
+    @Test
+    @DisplayName("게임을 만들 때 저장한 체스판을 수의 번호와 함께 한 번에 불러온다.")
+    void findOne() {
+        BoardDao boardDao = new BoardDao();
+        Board board = BoardFactory.create("8/8/8/8/8/8/8/K6k b");
+        int gameId = new GameDao().create(board, Turn.init().change());
+
+        SnapshotDto snapshot = boardDao.findOne(gameId).get();
+
+        assertThat(snapshot.getPly()).isZero();
+        assertThat(BoardCodec.decode(snapshot.getState()).toFen(BoardCodec.decodeTurn(snapshot.getState())))
+                .isEqualTo(board.toFen(Turn.init().change()));
+    }
+
+    @Test
+    @DisplayName("저장된 체스판을 모두 삭제한다.")
+    void deleteAll() {
+        BoardDao boardDao = new BoardDao();
+        int gameId = new GameDao().create(BoardFactory.create(), Turn.init());
+
+        boardDao.deleteAll(gameId);
+
+        assertThat(boardDao.findOne(gameId)).isEmpty();
+    }
+}
@@ -1,12 +1,22 @@
 package chess;
 
 import chess.model.ChessGame;
+import chess.model.MoveList;
+import chess.model.MoveResult;
+import chess.model.Movement;
+import chess.model.PackedMove;
+import chess.model.Team;
+import chess.model.Turn;
 import chess.model.board.Board;
 import chess.model.board.BoardFactory;
+import chess.model.piece.Empty;
+import chess.model.piece.Knight;
+import chess.model.position.Position;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class ChessGameTest {
 
@@ -26,4 +36,103 @@ class ChessGameTest {
         ChessGame chessGame = new ChessGame(board);
         assertThat(chessGame.isKingDead()).isFalse();
     }
+
+    @Test
+    @DisplayName("초기 체스판에서 화이트팀이 움직일 수 있는 수는 20개이다.")
+    void legalMoves() {
+        ChessGame chessGame = new ChessGame(BoardFactory.create());
+
+        assertThat(chessGame.legalMoves(Turn.init())).hasSize(20);
+    }
+
+    @Test
+    @DisplayName("특정 위치의 말이 움직일 수 있는 수를 반환한다.")
+    void legalMovesOfPosition() {
+        ChessGame chessGame = new ChessGame(BoardFactory.create());
+        Position source = Position.from("b1");
+
+        assertThat(chessGame.legalMoves(source, Turn.init())).containsExactlyInAnyOrder(
+                new Movement(source, Position.from("a3")),
+                new Movement(source, Position.from("c3"))
+        );
+    }
+
+    @Test
+    @DisplayName("현재 턴이 아닌 말은 움직일 수 있는 수가 없다.")
+    void legalMovesOfOtherTeam() {
+        ChessGame chessGame = new ChessGame(BoardFactory.create());
+
+        assertThat(chessGame.legalMoves(Position.from("b8"), Turn.init())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("잡는 수만 골라 재사용하는 목록에 채운다.")
+    void generateCaptures() {
+        ChessGame chessGame = new ChessGame(BoardFactory.create());
+        MoveList moves = new MoveList();
+        chessGame.move(Position.from("e2"), Position.from("e4"), Turn.init());
+        chessGame.move(Position.from("d7"), Position.from("d5"), Turn.init().change());
+
+        chessGame.generateCaptures(Turn.init(), moves);
+
+        assertThat(moves.size()).isEqualTo(1);
+        assertThat(PackedMove.isCapture(moves.get(0))).isTrue();
+        assertThat(PackedMove.toString(moves.get(0))).isEqualTo("e4d5");
+
+        chessGame.generateMoves(Turn.init(), moves);
+
+        assertThat(moves.size()).isEqualTo(31);
+    }
+
+    @Test
+    @DisplayName("움직일 수 없는 이유를 예외 없이 알려준다.")
+    void validate() {
+        ChessGame chessGame = new ChessGame(BoardFactory.create());
+        Turn turn = Turn.init();
+
+        assertThat(chessGame.validate(Position.from("b7"), Position.from("b6"), turn)).isEqualTo(MoveResult.WRONG_TURN);
+        assertThat(chessGame.validate(Position.from("a1"), Position.from("a2"), turn))
+                .isEqualTo(MoveResult.SAME_TEAM_TARGET);
+        assertThat(chessGame.validate(Position.from("a1"), Position.from("a3"), turn)).isEqualTo(MoveResult.BLOCKED);
+        assertThat(chessGame.validate(Position.from("b1"), Position.from("b3"), turn))
+                .isEqualTo(MoveResult.UNREACHABLE);
+        assertThat(chessGame.validate(Position.from("a2"), Position.from("c5"), turn))
+                .isEqualTo(MoveResult.UNREACHABLE);
+        assertThat(chessGame.validate(Position.from("b1"), Position.from("c3"), turn)).isEqualTo(MoveResult.OK);
+    }
+
+    @Test
+    @DisplayName("실패한 수는 체스판을 바꾸지 않고 결과만 돌려준다.")
+    void tryMove() {
+        ChessGame chessGame = new ChessGame(BoardFactory.create());
+
+        MoveResult result = chessGame.tryMove(Position.from("e2"), Position.from("e5"), Turn.init());
+
+        assertThat(result).isEqualTo(MoveResult.UNREACHABLE);
+        assertThat(chessGame.getBoard().get(Position.from("e2")).isPawn()).isTrue();
+        assertThat(chessGame.tryMove(Position.from("e2"), Position.from("e4"), Turn.init()).isOk()).isTrue();
+    }
+
+    @Test
+    @DisplayName("움직인 수를 되돌린다.")
+    void undo() {
+        ChessGame chessGame = new ChessGame(BoardFactory.create());
+        Position source = Position.from("g1");
+        Position target = Position.from("f3");
+        chessGame.move(source, target, Turn.init());
+
+        chessGame.undo();
+
+        assertThat(chessGame.getBoard().get(source)).isEqualTo(new Knight(Team.WHITE));
+        assertThat(chessGame.getBoard().get(target)).isEqualTo(new Empty());
+    }
+
+    @Test
+    @DisplayName("되돌릴 수가 없으면 예외가 발생한다.")
+    void undoWithoutMove() {
+        ChessGame chessGame = new ChessGame(BoardFactory.create());
+
+        assertThatThrownBy(chessGame::undo)
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -0,0 +1,35 @@
+package chess;
+
+import chess.model.Turn;
+import chess.model.board.BoardFactory;
+import chess.model.dao.GameDao;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameDaoTest {
+
+    @Test
+    @DisplayName("게임을 만들 때마다 새 번호를 발급한다.")
+    void create() {
+        GameDao gameDao = new GameDao();
+
+        int first = gameDao.create(BoardFactory.create(), Turn.init());
+        int second = gameDao.create(BoardFactory.create(), Turn.init());
+
+        assertThat(second).isNotEqualTo(first);
+        assertThat(gameDao.exists(first)).isTrue();
+    }
+
+    @Test
+    @DisplayName("삭제한 게임은 존재하지 않는다.")
+    void delete() {
+        GameDao gameDao = new GameDao();
+        int gameId = gameDao.create(BoardFactory.create(), Turn.init());
+
+        gameDao.delete(gameId);
+
+        assertThat(gameDao.exists(gameId)).isFalse();
+    }
+}
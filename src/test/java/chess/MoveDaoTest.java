@@ -0,0 +1,82 @@
+package chess;
+
+import chess.model.Movement;
+import chess.model.Turn;
+import chess.model.board.Board;
+import chess.model.board.BoardCodec;
+import chess.model.board.BoardFactory;
+import chess.model.dao.BoardDao;
+import chess.model.dao.GameDao;
+import chess.model.dao.MoveDao;
+import chess.model.dto.MoveRecordDto;
+import chess.model.dto.SnapshotDto;
+import chess.model.position.Position;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoveDaoTest {
+
+    @Test
+    @DisplayName("기보에 추가한 수를 순서대로 불러온다.")
+    void append() {
+        MoveDao moveDao = new MoveDao();
+        int gameId = new GameDao().create(BoardFactory.create(), Turn.init());
+        moveDao.append(gameId, 1, Position.from("e2"), Position.from("e4"), "none-.");
+        moveDao.append(gameId, 2, Position.from("e7"), Position.from("e5"), "none-.");
+
+        List<MoveRecordDto> records = moveDao.findAfter(gameId, 0);
+
+        assertThat(records).extracting(MoveRecordDto::getPly).containsExactly(1, 2);
+        assertThat(records).extracting(MoveRecordDto::getMovement).containsExactly(
+                new Movement(Position.from("e2"), Position.from("e4")),
+                new Movement(Position.from("e7"), Position.from("e5")));
+        assertThat(moveDao.findAfter(gameId, 1)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("스냅샷과 함께 수를 추가하면 체스판 상태와 수의 번호를 함께 저장한다.")
+    void appendWithSnapshot() {
+        MoveDao moveDao = new MoveDao();
+        BoardDao boardDao = new BoardDao();
+        Board board = BoardFactory.create();
+        int gameId = new GameDao().create(board, Turn.init());
+        board.makeMove(Position.from("e2"), Position.from("e4"));
+
+        moveDao.append(gameId, 1, Position.from("e2"), Position.from("e4"), "none-.", board, Turn.init().change());
+
+        SnapshotDto snapshot = boardDao.findOne(gameId).get();
+        assertThat(snapshot.getPly()).isEqualTo(1);
+        assertThat(BoardCodec.decode(snapshot.getState()).toFen(Turn.init().change()))
+                .isEqualTo(board.toFen(Turn.init().change()));
+        assertThat(moveDao.findAfter(gameId, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 번호의 수를 다시 추가하면 예외 처리")
+    void appendDuplicatePly() {
+        MoveDao moveDao = new MoveDao();
+        int gameId = new GameDao().create(BoardFactory.create(), Turn.init());
+        moveDao.append(gameId, 1, Position.from("e2"), Position.from("e4"), "none-.");
+
+        assertThatThrownBy(() -> moveDao.append(gameId, 1, Position.from("d2"), Position.from("d4"), "none-."))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("기보를 저장할 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("게임의 기보를 모두 삭제한다.")
+    void deleteAll() {
+        MoveDao moveDao = new MoveDao();
+        int gameId = new GameDao().create(BoardFactory.create(), Turn.init());
+        moveDao.append(gameId, 1, Position.from("e2"), Position.from("e4"), "none-.");
+
+        moveDao.deleteAll(gameId);
+
+        assertThat(moveDao.findAfter(gameId, 0)).isEmpty();
+    }
+}
@@ -1,9 +1,13 @@
 package chess;
 
+import chess.model.position.Direction;
+import chess.model.position.File;
 import chess.model.position.Position;
+import chess.model.position.Rank;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class PositionTest {
@@ -14,4 +18,23 @@ class PositionTest {
         assertThatThrownBy(() -> Position.from("a9"))
                 .isExactlyInstanceOf(IllegalArgumentException.class);
     }
+
+    @Test
+    @DisplayName("position은 0부터 63까지의 순서를 가진다.")
+    void ordinalTest() {
+        Position position = Position.of(File.C, Rank.TWO);
+
+        assertThat(position.getOrdinal()).isEqualTo(10);
+        assertThat(Position.fromOrdinal(10)).isSameAs(Position.from("c2"));
+    }
+
+    @Test
+    @DisplayName("방향에 따른 다음 위치와 체스판 끝까지의 위치들을 구한다.")
+    void nextAndRayTest() {
+        Position position = Position.from("f6");
+
+        assertThat(position.getNext(Direction.NE)).isEqualTo(Position.from("g7"));
+        assertThat(position.getRay(Direction.NE)).containsExactly(Position.from("g7"), Position.from("h8"));
+        assertThat(Position.from("h8").hasNext(Direction.NE)).isFalse();
+    }
 }
@@ -0,0 +1,68 @@
+package chess.engine;
+
+import chess.model.Movement;
+import chess.model.Team;
+import chess.model.Turn;
+import chess.model.board.Board;
+import chess.model.board.BoardFactory;
+import chess.model.piece.King;
+import chess.model.piece.Piece;
+import chess.model.piece.Queen;
+import chess.model.piece.Rook;
+import chess.model.position.Position;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParallelSearcherTest {
+
+    @Test
+    @DisplayName("여러 스레드로 탐색해도 지키는 말이 없는 퀸을 잡는다.")
+    void captureHangingQueen() {
+        Map<Position, Piece> boardMap = new HashMap<>();
+        boardMap.put(Position.from("e1"), new King(Team.WHITE));
+        boardMap.put(Position.from("h8"), new King(Team.BLACK));
+        boardMap.put(Position.from("a1"), new Rook(Team.WHITE));
+        boardMap.put(Position.from("a7"), new Queen(Team.BLACK));
+
+        try (ParallelSearcher searcher = new ParallelSearcher(4)) {
+            SearchResult result = searcher.search(new Board(boardMap), Turn.init(), SearchLimit.ofDepth(4));
+
+            assertThat(result.getBestMove()).isEqualTo(new Movement(Position.from("a1"), Position.from("a7")));
+        }
+    }
+
+    @Test
+    @DisplayName("모든 스레드의 노드 수를 합해 알려주고 원래 체스판은 바꾸지 않는다.")
+    void searchWithHelpers() {
+        Board board = BoardFactory.create();
+        long key = board.getZobristKey(Turn.init());
+
+        try (ParallelSearcher searcher = new ParallelSearcher(2)) {
+            SearchResult result = searcher.search(board, Turn.init(), SearchLimit.ofDepth(4));
+
+            assertThat(result.getDepth()).isEqualTo(4);
+            assertThat(result.getNodes()).isPositive();
+            assertThat(board.getZobristKey(Turn.init())).isEqualTo(key);
+        }
+    }
+
+    @Test
+    @DisplayName("다른 탐색이 끝나기를 기다리는 시간이 지나면 탐색하지 않는다.")
+    void trySearchWhileBusy() throws InterruptedException {
+        try (ParallelSearcher searcher = new ParallelSearcher(1)) {
+            Thread busy = new Thread(() -> searcher.search(BoardFactory.create(), Turn.init(),
+                    SearchLimit.ofTime(500)));
+            busy.start();
+            Thread.sleep(100);
+
+            assertThat(searcher.trySearch(BoardFactory.create(), Turn.init(), SearchLimit.ofDepth(1), 10)).isEmpty();
+            busy.join();
+            assertThat(searcher.trySearch(BoardFactory.create(), Turn.init(), SearchLimit.ofDepth(1), 10)).isPresent();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package chess.engine;
+
+import chess.model.Turn;
+import chess.model.board.BoardFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PerftTest {
+
+    @ParameterizedTest
+    @DisplayName("초기 체스판에서 깊이별 말단 노드의 수를 센다.")
+    @CsvSource(value = {"1:20", "2:400", "3:8902"}, delimiter = ':')
+    void count(int depth, long nodes) {
+        assertThat(Perft.count(BoardFactory.create(), Turn.init(), depth)).isEqualTo(nodes);
+    }
+
+    @Test
+    @DisplayName("첫 수별로 나눈 노드 수의 합은 전체 노드 수와 같다.")
+    void divide() {
+        PerftResult result = Perft.divide(BoardFactory.create(), Turn.init(), 3);
+
+        assertThat(result.getDivide()).hasSize(20);
+        assertThat(result.getNodes()).isEqualTo(8902);
+    }
+
+    @Test
+    @DisplayName("병렬로 센 결과는 순차로 센 결과와 같다.")
+    void parallelDivide() {
+        PerftResult sequential = Perft.divide(BoardFactory.create(), Turn.init(), 3);
+        PerftResult parallel = Perft.divide(BoardFactory.create(), Turn.init(), 3, ForkJoinPool.commonPool());
+
+        assertThat(parallel.getDivide()).isEqualTo(sequential.getDivide());
+    }
+}
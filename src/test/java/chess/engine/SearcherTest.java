@@ -0,0 +1,74 @@
+package chess.engine;
+
+import chess.model.Movement;
+import chess.model.Team;
+import chess.model.Turn;
+import chess.model.board.Board;
+import chess.model.board.BoardFactory;
+import chess.model.piece.King;
+import chess.model.piece.Piece;
+import chess.model.piece.Queen;
+import chess.model.piece.Rook;
+import chess.model.position.Position;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearcherTest {
+
+    @Test
+    @DisplayName("상대 킹을 잡을 수 있으면 킹을 잡는 수를 고른다.")
+    void captureKing() {
+        Map<Position, Piece> boardMap = new HashMap<>();
+        boardMap.put(Position.from("e1"), new King(Team.WHITE));
+        boardMap.put(Position.from("e8"), new King(Team.BLACK));
+        boardMap.put(Position.from("e7"), new Queen(Team.WHITE));
+        boardMap.put(Position.from("a7"), new Queen(Team.BLACK));
+
+        SearchResult result = new Searcher().search(new Board(boardMap), Turn.init(), SearchLimit.ofDepth(4));
+
+        assertThat(result.getBestMove()).isEqualTo(new Movement(Position.from("e7"), Position.from("e8")));
+        assertThat(result.getScore()).isGreaterThan(Searcher.KING_CAPTURED - 10);
+    }
+
+    @Test
+    @DisplayName("지키는 말이 없는 퀸을 잡는다.")
+    void captureHangingQueen() {
+        Map<Position, Piece> boardMap = new HashMap<>();
+        boardMap.put(Position.from("e1"), new King(Team.WHITE));
+        boardMap.put(Position.from("h8"), new King(Team.BLACK));
+        boardMap.put(Position.from("a1"), new Rook(Team.WHITE));
+        boardMap.put(Position.from("a7"), new Queen(Team.BLACK));
+
+        SearchResult result = new Searcher().search(new Board(boardMap), Turn.init(), SearchLimit.ofDepth(3));
+
+        assertThat(result.getBestMove()).isEqualTo(new Movement(Position.from("a1"), Position.from("a7")));
+    }
+
+    @Test
+    @DisplayName("탐색이 끝나면 체스판은 원래 상태로 돌아오고 탐색 깊이와 노드 수를 알려준다.")
+    void searchByDepth() {
+        Board board = BoardFactory.create();
+        long key = board.getZobristKey(Turn.init());
+
+        SearchResult result = new Searcher().search(board, Turn.init(), SearchLimit.ofDepth(3));
+
+        assertThat(result.getDepth()).isEqualTo(3);
+        assertThat(result.getPrincipalVariation()).hasSize(3);
+        assertThat(result.getNodes()).isPositive();
+        assertThat(board.getZobristKey(Turn.init())).isEqualTo(key);
+    }
+
+    @Test
+    @DisplayName("노드 수 제한을 넘겨 탐색하지 않는다.")
+    void searchByNodes() {
+        SearchResult result = new Searcher().search(BoardFactory.create(), Turn.init(), new SearchLimit(32, 10_000, 3_000));
+
+        assertThat(result.getNodes()).isLessThanOrEqualTo(3_000);
+        assertThat(result.hasBestMove()).isTrue();
+    }
+}
@@ -0,0 +1,68 @@
+package chess.engine;
+
+import chess.model.PackedMove;
+import chess.model.position.Position;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TranspositionTableTest {
+    private static final long KEY = 0x1234_5678_0000_0010L;
+    private static final long SAME_BUCKET_KEY = 0x7654_3210_0000_0010L;
+    private static final long OTHER_KEY = 0x0BAD_CAFE_0000_0010L;
+
+    @Test
+    @DisplayName("저장한 점수, 깊이, 경계, 수를 그대로 찾는다.")
+    void storeAndProbe() {
+        TranspositionTable table = new TranspositionTable(1);
+        int move = PackedMove.of(Position.from("e2"), Position.from("e4"));
+
+        table.store(KEY, 5, -42, Bound.LOWER, move);
+        long entry = table.probe(KEY);
+
+        assertThat(TranspositionTable.isHit(entry)).isTrue();
+        assertThat(TranspositionTable.scoreOf(entry)).isEqualTo(-42);
+        assertThat(TranspositionTable.depthOf(entry)).isEqualTo(5);
+        assertThat(TranspositionTable.boundOf(entry)).isEqualTo(Bound.LOWER);
+        assertThat(TranspositionTable.moveOf(entry)).isEqualTo(move);
+        assertThat(TranspositionTable.isHit(table.probe(OTHER_KEY))).isFalse();
+    }
+
+    @Test
+    @DisplayName("깊이 우선 정책은 얕은 탐색 결과가 깊은 결과를 덮어쓰지 않게 한다.")
+    void depthPreferred() {
+        TranspositionTable table = new TranspositionTable(1, ReplacementPolicy.DEPTH_PREFERRED);
+
+        table.store(KEY, 8, 100, Bound.EXACT, PackedMove.NONE);
+        table.store(SAME_BUCKET_KEY, 2, 50, Bound.EXACT, PackedMove.NONE);
+        table.store(OTHER_KEY, 1, 10, Bound.EXACT, PackedMove.NONE);
+
+        assertThat(TranspositionTable.depthOf(table.probe(KEY))).isEqualTo(8);
+        assertThat(TranspositionTable.isHit(table.probe(SAME_BUCKET_KEY))).isFalse();
+        assertThat(TranspositionTable.isHit(table.probe(OTHER_KEY))).isTrue();
+    }
+
+    @Test
+    @DisplayName("새 탐색이 시작되면 이전 탐색의 깊은 결과도 교체된다.")
+    void replaceOldSearch() {
+        TranspositionTable table = new TranspositionTable(1);
+
+        table.store(KEY, 8, 100, Bound.EXACT, PackedMove.NONE);
+        table.newSearch();
+        table.store(SAME_BUCKET_KEY, 1, 10, Bound.EXACT, PackedMove.NONE);
+
+        assertThat(TranspositionTable.isHit(table.probe(KEY))).isFalse();
+        assertThat(TranspositionTable.isHit(table.probe(SAME_BUCKET_KEY))).isTrue();
+    }
+
+    @Test
+    @DisplayName("크기는 MB 단위로 정하고 2의 거듭제곱으로 맞춘다.")
+    void size() {
+        assertThat(new TranspositionTable(3).getSizeInBytes()).isEqualTo(2L * 1024 * 1024);
+        assertThatThrownBy(() -> new TranspositionTable(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("치환표의 크기는 1MB 이상이어야 합니다.");
+    }
+}
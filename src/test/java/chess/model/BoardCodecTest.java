@@ -0,0 +1,50 @@
+package chess.model;
+
+import chess.model.board.Board;
+import chess.model.board.BoardCodec;
+import chess.model.board.BoardFactory;
+import chess.model.position.Position;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoardCodecTest {
+
+    @Test
+    @DisplayName("체스판과 턴을 33바이트로 바꾸고 그대로 복원한다.")
+    void encodeAndDecode() {
+        Board board = BoardFactory.create();
+        board.makeMove(Position.from("e2"), Position.from("e4"));
+        Turn turn = Turn.init().change();
+
+        byte[] bytes = BoardCodec.encode(board, turn);
+        Board decoded = BoardCodec.decode(bytes);
+
+        assertThat(bytes).hasSize(BoardCodec.LENGTH);
+        assertThat(decoded.toFen(turn)).isEqualTo(board.toFen(turn));
+        assertThat(decoded.getZobristKey(turn)).isEqualTo(board.getZobristKey(turn));
+        assertThat(BoardCodec.decodeTurn(bytes).isCurrentTeam(Team.BLACK)).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 있는 체스판에 덮어써서 복원한다.")
+    void decodeIntoBoard() {
+        Board board = BoardFactory.create();
+        byte[] bytes = BoardCodec.encode(BoardFactory.create("8/8/8/8/8/8/8/K6k w"), Turn.init());
+
+        BoardCodec.decode(bytes, board);
+
+        assertThat(board.toFen(Turn.init())).isEqualTo("8/8/8/8/8/8/8/K6k w - - 0 1");
+        assertThat(board.getTotalScore(Team.WHITE)).isZero();
+    }
+
+    @Test
+    @DisplayName("길이가 맞지 않으면 예외 처리")
+    void invalidLength() {
+        assertThatThrownBy(() -> BoardCodec.decode(new byte[10]))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("체스판 데이터의 길이가 올바르지 않습니다.");
+    }
+}
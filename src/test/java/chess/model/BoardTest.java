@@ -2,8 +2,13 @@ package chess.model;
 
 import chess.model.board.Board;
 import chess.model.board.BoardFactory;
+import chess.model.piece.Empty;
+import chess.model.piece.King;
+import chess.model.piece.Knight;
 import chess.model.piece.Pawn;
 import chess.model.piece.Piece;
+import chess.model.piece.PieceType;
+import chess.model.piece.Queen;
 import chess.model.piece.Rook;
 import chess.model.position.Position;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +18,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class BoardTest {
 
@@ -62,5 +68,173 @@ class BoardTest {
         double totalScore = board.getTotalScore(Team.WHITE);
         assertThat(totalScore).isEqualTo(5.5D);
     }
-}
 
+    @Test
+    @DisplayName("말을 움직이면 source는 빈칸이 되고 target에 말이 놓인다.")
+    void moveTest() {
+        Board board = BoardFactory.create();
+        Position source = Position.from("b1");
+        Position target = Position.from("c3");
+
+        board.move(board.get(source), source, target);
+
+        assertThat(board.get(source)).isEqualTo(new Empty());
+        assertThat(board.get(target)).isEqualTo(new Knight(Team.WHITE));
+    }
+
+    @Test
+    @DisplayName("상대 말을 잡으면 남은 점수와 체스판의 말 개수에 반영된다.")
+    void moveAttackTest() {
+        Board board = BoardFactory.create();
+        Position source = Position.from("d1");
+        Position target = Position.from("d8");
+
+        board.move(board.get(source), source, target);
+
+        assertThat(board.getTotalScore(Team.BLACK)).isEqualTo(29D);
+        assertThat(board.getBoard()).hasSize(64);
+    }
+
+    @Test
+    @DisplayName("말이 제자리로 돌아오면 같은 해시값을 가진다.")
+    void zobristKeyTest() {
+        Board board = BoardFactory.create();
+        long initKey = board.getZobristKey(Turn.init());
+        Position source = Position.from("g1");
+        Position target = Position.from("f3");
+
+        board.move(board.get(source), source, target);
+        assertThat(board.getZobristKey(Turn.init())).isNotEqualTo(initKey);
+
+        board.move(board.get(target), target, source);
+        assertThat(board.getZobristKey(Turn.init())).isEqualTo(initKey);
+    }
+
+    @Test
+    @DisplayName("같은 배치라도 차례가 다르면 해시값이 다르다.")
+    void zobristKeyWithTurnTest() {
+        Board board = BoardFactory.create();
+
+        assertThat(board.getZobristKey(Turn.init())).isNotEqualTo(board.getZobristKey(Turn.init().change()));
+    }
+
+    @Test
+    @DisplayName("폰이 상대 말을 잡아 같은 세로줄에 놓이면 점수가 바로 반영된다.")
+    void pawnScoreAfterMoveTest() {
+        Map<Position, Piece> boardMap = new HashMap<>();
+        boardMap.put(Position.from("a2"), new Pawn(Team.WHITE));
+        boardMap.put(Position.from("b2"), new Pawn(Team.WHITE));
+        boardMap.put(Position.from("b3"), new Knight(Team.BLACK));
+        Board board = new Board(boardMap);
+        Position source = Position.from("a2");
+        Position target = Position.from("b3");
+
+        board.move(board.get(source), source, target);
+
+        assertThat(board.getTotalScore(Team.WHITE)).isEqualTo(1D);
+        assertThat(board.getTotalScore(Team.BLACK)).isEqualTo(0D);
+    }
+
+    @Test
+    @DisplayName("팀별로 말이 놓인 위치를 반환한다.")
+    void getPositionsTest() {
+        Board board = BoardFactory.create();
+
+        assertThat(board.getPositions(Team.WHITE)).hasSize(16);
+        assertThat(board.getPositions(Team.BLACK, PieceType.KNIGHT))
+                .containsExactlyInAnyOrder(Position.from("b8"), Position.from("g8"));
+    }
+
+    @Test
+    @DisplayName("킹이 잡히면 해당 팀의 킹을 찾을 수 없다.")
+    void findKingTest() {
+        Board board = BoardFactory.create();
+        Position source = Position.from("d1");
+        Position target = Position.from("e8");
+
+        board.move(board.get(source), source, target);
+
+        assertThat(board.findKing(Team.WHITE)).contains(Position.from("e1"));
+        assertThat(board.findKing(Team.BLACK)).isEmpty();
+        assertThat(board.hasKing(Team.BLACK)).isFalse();
+    }
+
+    @Test
+    @DisplayName("잡은 수를 되돌리면 잡힌 말과 점수, 해시값이 모두 복구된다.")
+    void unmakeMoveTest() {
+        Board board = BoardFactory.create();
+        long initKey = board.getZobristKey(Turn.init());
+        Position source = Position.from("d1");
+        Position target = Position.from("d7");
+
+        int undo = board.makeMove(source, target);
+        board.unmakeMove(undo);
+
+        assertThat(board.get(source)).isEqualTo(new Queen(Team.WHITE));
+        assertThat(board.get(target)).isEqualTo(new Pawn(Team.BLACK));
+        assertThat(board.getTotalScore(Team.BLACK)).isEqualTo(38D);
+        assertThat(board.getZobristKey(Turn.init())).isEqualTo(initKey);
+    }
+
+    @Test
+    @DisplayName("초기 체스판을 FEN으로 바꾸고 다시 같은 체스판으로 읽는다.")
+    void fenTest() {
+        String fen = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w - - 0 1";
+        Board board = BoardFactory.create(fen);
+
+        assertThat(BoardFactory.create().toFen(Turn.init())).isEqualTo(fen);
+        assertThat(board.getZobristKey(Turn.init())).isEqualTo(BoardFactory.create().getZobristKey(Turn.init()));
+        assertThat(board.get(Position.from("e1"))).isEqualTo(new King(Team.WHITE));
+    }
+
+    @Test
+    @DisplayName("FEN의 차례를 읽고 형식이 틀리면 예외 처리")
+    void fenTurnTest() {
+        String fen = "r3k2r/pp3ppp/2n5/3q4/8/2N5/PPP2PPP/R2QK2R b - - 0 1";
+
+        assertThat(BoardFactory.createTurn(fen).isCurrentTeam(Team.BLACK)).isTrue();
+        assertThat(BoardFactory.create(fen).toFen(BoardFactory.createTurn(fen))).isEqualTo(fen);
+        assertThatThrownBy(() -> BoardFactory.create("9/8/8/8/8/8/8/8 w"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("FEN 형식이 올바르지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("FEN에 숫자가 연속으로 나오면 예외 처리")
+    void fenConsecutiveDigitsTest() {
+        assertThatThrownBy(() -> BoardFactory.create("rnbqkbnr/pppppppp/44/8/8/8/PPPPPPPP/RNBQKBNR w"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("FEN 형식이 올바르지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("FEN에 팀마다 왕이 하나씩 없으면 예외 처리")
+    void fenKingTest() {
+        assertThatThrownBy(() -> BoardFactory.create("8/8/8/8/8/8/8/8 w"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("왕은 팀마다 하나씩 있어야 합니다.");
+        assertThatThrownBy(() -> BoardFactory.create("k7/8/8/8/8/8/8/KK6 w"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("왕은 팀마다 하나씩 있어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("FEN의 말 개수가 실제 게임에서 나올 수 없으면 예외 처리")
+    void fenPieceCountTest() {
+        assertThatThrownBy(() -> BoardFactory.create("QQQQQRQk/Q6Q/Q6Q/Q6Q/Q2Q3Q/R6R/Q6Q/KQRQQQRB w"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("말의 개수가 올바르지 않습니다.");
+        assertThatThrownBy(() -> BoardFactory.create("rnbqkbnr/pppppppp/8/8/8/Q7/PPPPPPPP/RNBQKBNR w"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("말의 개수가 올바르지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("FEN의 차례 뒤에 다른 글자가 붙으면 예외 처리")
+    void fenTrailingSideTest() {
+        assertThat(BoardFactory.createTurn("8/8/8/8/8/8/8/K6k w - - 0 1").isCurrentTeam(Team.WHITE)).isTrue();
+        assertThatThrownBy(() -> BoardFactory.createTurn("8/8/8/8/8/8/8/K6k wxyz"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("FEN 형식이 올바르지 않습니다.");
+    }
+}
@@ -0,0 +1,21 @@
+package chess.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MoveListTest {
+
+    @Test
+    @DisplayName("기본 크기보다 많은 수를 추가해도 모두 담는다.")
+    void addBeyondCapacity() {
+        MoveList moves = new MoveList();
+        for (int index = 0; index < 300; index++) {
+            moves.add(PackedMove.of(index % 64, (index + 1) % 64, 0));
+        }
+
+        assertThat(moves.size()).isEqualTo(300);
+        assertThat(moves.get(299)).isEqualTo(PackedMove.of(299 % 64, 0, 0));
+    }
+}
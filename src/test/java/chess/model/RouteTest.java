@@ -0,0 +1,40 @@
+package chess.model;
+
+import chess.model.position.Direction;
+import chess.model.position.Distance;
+import chess.model.position.Position;
+import chess.model.position.Route;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RouteTest {
+
+    @Test
+    @DisplayName("source와 target 사이의 방향, 거리, 사이 위치를 구한다.")
+    void routeTest() {
+        Route route = Route.of(Position.from("a1"), Position.from("d4"));
+
+        assertThat(route.getDirection()).isEqualTo(Direction.NE);
+        assertThat(route.getDistance()).isEqualTo(new Distance(3));
+        assertThat(route.getInterval()).containsExactly(Position.from("b2"), Position.from("c3"));
+    }
+
+    @Test
+    @DisplayName("같은 source와 target은 항상 같은 경로를 반환한다.")
+    void cachedRouteTest() {
+        Route route = Route.of(Position.from("h8"), Position.from("h1"));
+
+        assertThat(Route.of(Position.from("h8"), Position.from("h1"))).isSameAs(route);
+    }
+
+    @Test
+    @DisplayName("어느 방향으로도 갈 수 없는 위치면 예외가 발생한다.")
+    void notExistRouteTest() {
+        assertThat(Route.exists(Position.from("a1"), Position.from("c4"))).isFalse();
+        assertThatThrownBy(() -> Route.of(Position.from("a1"), Position.from("c4")))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
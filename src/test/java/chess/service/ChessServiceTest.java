@@ -0,0 +1,69 @@
+package chess.service;
+
+import chess.model.MoveResult;
+import chess.model.dao.MoveDao;
+import chess.model.dto.MoveDto;
+import chess.model.position.Position;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChessServiceTest {
+    private static final String INITIAL_FEN = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w - - 0 1";
+    private static final String[][] KNIGHT_SHUFFLE = {{"g1", "f3"}, {"g8", "f6"}, {"f3", "g1"}, {"f6", "g8"}};
+
+    @Test
+    @DisplayName("스냅샷 이후의 기보를 다시 두어 같은 게임을 불러온다.")
+    void replay() {
+        ChessService chessService = new ChessService();
+        int gameId = chessService.createGame();
+        for (int ply = 0; ply < 18; ply++) {
+            String[] move = KNIGHT_SHUFFLE[ply % KNIGHT_SHUFFLE.length];
+            assertThat(chessService.move(gameId, new MoveDto(move[0], move[1]))).isEqualTo(MoveResult.OK);
+        }
+        chessService.move(gameId, new MoveDto("e2", "e4"));
+
+        ChessService reloaded = new ChessService();
+
+        assertThat(reloaded.getFen(gameId)).isEqualTo(chessService.getFen(gameId));
+        assertThat(reloaded.getTurn(gameId)).isEqualTo("BLACK");
+    }
+
+    @Test
+    @DisplayName("FEN으로 만든 게임은 다시 불러와도 같은 체스판이다.")
+    void replayFen() {
+        String fen = "r3k2r/pp3ppp/2n5/3q4/8/2N5/PPP2PPP/R2QK2R b - - 0 1";
+        int gameId = new ChessService().createGame(fen);
+
+        assertThat(new ChessService().getFen(gameId)).isEqualTo(fen);
+    }
+
+    @Test
+    @DisplayName("기보에 빠진 수가 있으면 게임을 불러오지 않는다.")
+    void replayWithGap() {
+        int gameId = new ChessService().createGame();
+        MoveDao moveDao = new MoveDao();
+        moveDao.append(gameId, 1, Position.from("e2"), Position.from("e4"), "none-.");
+        moveDao.append(gameId, 3, Position.from("d2"), Position.from("d4"), "none-.");
+
+        assertThatThrownBy(() -> new ChessService().getFen(gameId))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("기보에 빠진 수가 있습니다.");
+    }
+
+    @Test
+    @DisplayName("기보를 저장하지 못하면 둔 수를 되돌린다.")
+    void undoWhenAppendFails() {
+        ChessService chessService = new ChessService();
+        int gameId = chessService.createGame();
+        new MoveDao().append(gameId, 1, Position.from("d2"), Position.from("d4"), "none-.");
+
+        assertThatThrownBy(() -> chessService.move(gameId, new MoveDto("e2", "e4")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("기보를 저장할 수 없습니다.");
+        assertThat(chessService.getFen(gameId)).isEqualTo(INITIAL_FEN);
+        assertThat(chessService.getTurn(gameId)).isEqualTo("WHITE");
+    }
+}
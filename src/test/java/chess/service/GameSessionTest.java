@@ -0,0 +1,78 @@
+package chess.service;
+
+import chess.model.ChessGame;
+import chess.model.Turn;
+import chess.model.board.BoardFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameSessionTest {
+
+    @Test
+    @DisplayName("같은 게임에 대한 작업은 동시에 여러 스레드에서 요청해도 하나씩 실행된다.")
+    void execute() throws InterruptedException {
+        GameSession session = new GameSession(1, new ChessGame(BoardFactory.create()), Turn.init());
+        AtomicBoolean running = new AtomicBoolean();
+        AtomicInteger overlapped = new AtomicInteger();
+        int[] count = new int[1];
+        int threads = 8;
+        CountDownLatch done = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    session.execute(() -> {
+                        if (!running.compareAndSet(false, true)) {
+                            overlapped.incrementAndGet();
+                        }
+                        count[0]++;
+                        running.set(false);
+                        return null;
+                    });
+                }
+                done.countDown();
+            });
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        assertThat(overlapped.get()).isZero();
+        assertThat(count[0]).isEqualTo(threads * 1000);
+    }
+
+    @Test
+    @DisplayName("종료된 게임에는 더 이상 작업을 실행하지 않는다.")
+    void close() {
+        GameSession session = new GameSession(1, new ChessGame(BoardFactory.create()), Turn.init());
+        session.execute(() -> {
+            session.close();
+            return null;
+        });
+
+        assertThatThrownBy(() -> session.execute(() -> null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 게임입니다.");
+    }
+
+    @Test
+    @DisplayName("오래 쓰지 않은 게임만 닫고 닫힌 게임은 다시 쓸 수 없다.")
+    void closeIfIdle() {
+        GameSession session = new GameSession(1, new ChessGame(BoardFactory.create()), Turn.init());
+
+        assertThat(session.closeIfIdle(TimeUnit.MINUTES.toNanos(30))).isFalse();
+        assertThat(session.touch()).isTrue();
+        assertThat(session.closeIfIdle(0)).isTrue();
+        assertThat(session.isClosed()).isTrue();
+        assertThat(session.touch()).isFalse();
+    }
+}
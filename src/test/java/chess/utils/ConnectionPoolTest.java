@@ -0,0 +1,165 @@
+package chess.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConnectionPoolTest {
+
+    private Connection fakeConnection(AtomicInteger created) {
+        created.incrementAndGet();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    if ("getAutoCommit".equals(method.getName()) || "isValid".equals(method.getName())) {
+                        return true;
+                    }
+                    if ("isClosed".equals(method.getName())) {
+                        return false;
+                    }
+                    if ("prepareStatement".equals(method.getName())) {
+                        return fakeStatement();
+                    }
+                    return null;
+                });
+    }
+
+    private PreparedStatement fakeStatement() {
+        return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                    if ("isClosed".equals(method.getName())) {
+                        return false;
+                    }
+                    return null;
+                });
+    }
+
+    @Test
+    @DisplayName("최소 크기만큼 미리 만들고 반납한 커넥션을 다시 빌려준다.")
+    void reuse() throws SQLException {
+        AtomicInteger created = new AtomicInteger();
+        try (ConnectionPool pool = new ConnectionPool(() -> fakeConnection(created), 1, 2, 100, 0)) {
+            Connection connection = pool.getConnection();
+            assertThat(pool.getMetrics().getActive()).isEqualTo(1);
+            connection.close();
+            pool.getConnection().close();
+
+            assertThat(created.get()).isEqualTo(1);
+            assertThat(pool.getMetrics().getIdle()).isEqualTo(1);
+            assertThat(pool.getMetrics().getBorrowCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 기다리다가 시간이 초과되면 예외 처리")
+    void maxSize() throws SQLException {
+        AtomicInteger created = new AtomicInteger();
+        try (ConnectionPool pool = new ConnectionPool(() -> fakeConnection(created), 0, 1, 10, 0)) {
+            Connection connection = pool.getConnection();
+
+            assertThatThrownBy(pool::getConnection)
+                    .isInstanceOf(SQLException.class)
+                    .hasMessage("커넥션을 기다리는 시간이 초과되었습니다.");
+            connection.close();
+            assertThat(pool.getMetrics().getTotal()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 쿼리는 커넥션에 캐시된 구문을 다시 사용한다.")
+    void statementCache() throws SQLException {
+        AtomicInteger created = new AtomicInteger();
+        try (ConnectionPool pool = new ConnectionPool(() -> fakeConnection(created), 1, 1, 10, 0, 1)) {
+            for (int count = 0; count < 3; count++) {
+                try (Connection connection = pool.getConnection();
+                     PreparedStatement statement = connection.prepareStatement("select 1")) {
+                    statement.setInt(1, count);
+                }
+            }
+            try (Connection connection = pool.getConnection()) {
+                connection.prepareStatement("select 2").close();
+                connection.prepareStatement("select 1").close();
+            }
+
+            assertThat(pool.getMetrics().getStatementCacheHits()).isEqualTo(2);
+            assertThat(pool.getMetrics().getStatementCacheMisses()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    @DisplayName("반납한 커넥션은 다시 사용할 수 없다.")
+    void closedConnection() throws SQLException {
+        AtomicInteger created = new AtomicInteger();
+        try (ConnectionPool pool = new ConnectionPool(() -> fakeConnection(created), 0, 1, 10, 0)) {
+            Connection connection = pool.getConnection();
+            connection.close();
+
+            assertThat(connection.isClosed()).isTrue();
+            assertThatThrownBy(connection::createStatement)
+                    .isInstanceOf(SQLException.class)
+                    .hasMessage("이미 반납된 커넥션입니다.");
+        }
+    }
+
+    @Test
+    @DisplayName("반납되지 않은 커넥션은 지표로 알리고 빌린 위치는 설정한 경우에만 남긴다.")
+    void leak() throws SQLException, InterruptedException {
+        AtomicInteger created = new AtomicInteger();
+        try (ConnectionPool pool = new ConnectionPool(() -> fakeConnection(created), 0, 1, 10, 20);
+             ConnectionPool tracingPool = new ConnectionPool(() -> fakeConnection(created), 0, 1, 10, 20, 0, true)) {
+            pool.getConnection();
+            tracingPool.getConnection();
+            Thread.sleep(200);
+
+            assertThat(pool.getMetrics().getLeakCount()).isEqualTo(1);
+            assertThat(pool.getMetrics().getLastLeakTrace()).isNull();
+            assertThat(tracingPool.getMetrics().getLeakCount()).isEqualTo(1);
+            assertThat(tracingPool.getMetrics().getLastLeakTrace()).contains("leak");
+        }
+    }
+
+    @Test
+    @DisplayName("기다리는 동안 버려진 커넥션이 있으면 새 커넥션을 만들어 빌려준다.")
+    void createAfterDiscard() throws SQLException, InterruptedException {
+        AtomicInteger created = new AtomicInteger();
+        try (ConnectionPool pool = new ConnectionPool(() -> created.get() == 0 ? brokenConnection(created)
+                : fakeConnection(created), 0, 1, 1000, 0)) {
+            Connection broken = pool.getConnection();
+            Thread releaser = new Thread(() -> {
+                try {
+                    Thread.sleep(50);
+                    broken.close();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (SQLException throwables) {
+                    throwables.printStackTrace();
+                }
+            });
+            releaser.start();
+
+            pool.getConnection().close();
+            releaser.join();
+
+            assertThat(created.get()).isEqualTo(2);
+            assertThat(pool.getMetrics().getTotal()).isEqualTo(1);
+        }
+    }
+
+    private Connection brokenConnection(AtomicInteger created) {
+        created.incrementAndGet();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    if ("getAutoCommit".equals(method.getName())) {
+                        throw new SQLException("끊어진 커넥션입니다.");
+                    }
+                    return null;
+                });
+    }
+}